@@ -0,0 +1,22 @@
+package org.example.reactive;
+
+import org.example.service.MutantDetector;
+import org.example.service.Murmur3DnaHasher;
+import org.example.service.Sha256DnaHasher;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Variante reactiva (WebFlux + R2DBC) de la API Mutant Detector.
+ * Reutiliza el detector y los hashers del módulo principal; el hasher activo se
+ * elige con {@code mutant.hash.algorithm}, igual que en la variante servlet.
+ */
+@SpringBootApplication
+@Import({MutantDetector.class, Sha256DnaHasher.class, Murmur3DnaHasher.class})
+public class ReactiveMutantApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveMutantApplication.class, args);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.reactive.config;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import org.example.dto.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Manejador global de excepciones para la variante reactiva.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    /**
+     * Maneja excepciones de validación de Bean Validation.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(WebExchangeBindException ex) {
+        String message = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.joining(", "));
+
+        return error(HttpStatus.BAD_REQUEST, message);
+    }
+
+    /**
+     * Maneja cuerpos que no se pueden leer (JSON inválido o vacío).
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInputException(ServerWebInputException ex) {
+        return error(HttpStatus.BAD_REQUEST, ex.getReason());
+    }
+
+    /**
+     * El scheduler de detección está saturado: el cliente puede reintentar.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException ex) {
+        return error(HttpStatus.SERVICE_UNAVAILABLE, "Servidor saturado, reintente más tarde");
+    }
+
+    /**
+     * Maneja excepciones genéricas no controladas.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Error interno del servidor: " + ex.getMessage());
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Scheduler acotado para el trabajo de CPU (hash y detección).
+ * Los event loops de Netty solo hacen I/O; la cantidad de hilos y la cola de tareas
+ * pendientes son fijas, por lo que una ráfaga se rechaza en lugar de crear hilos.
+ */
+@Configuration
+public class SchedulerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler detectorScheduler(
+            @Value("${mutant.reactive.detector.parallelism:0}") int parallelism,
+            @Value("${mutant.reactive.detector.queue-capacity:10000}") int queueCapacity) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "dna-detector");
+    }
+}
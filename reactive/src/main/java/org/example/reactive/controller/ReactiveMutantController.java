@@ -0,0 +1,42 @@
+package org.example.reactive.controller;
+
+import org.example.dto.DnaRequest;
+import org.example.reactive.service.ReactiveMutantService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador WebFlux para detección de mutantes, con el mismo contrato que
+ * {@code MutantController}: 200 si es mutante, 403 si es humano, 400 si es inválido.
+ */
+@RestController
+@RequestMapping("/mutant")
+@RequiredArgsConstructor
+@Tag(name = "Mutant Detection", description = "API reactiva para detección de mutantes mediante análisis de ADN")
+public class ReactiveMutantController {
+
+    private final ReactiveMutantService mutantService;
+
+    /**
+     * @param request DnaRequest con la secuencia de ADN
+     * @return 200 OK si es mutante, 403 Forbidden si es humano
+     */
+    @PostMapping
+    @Operation(summary = "Detectar mutante", description = "Analiza una secuencia de ADN sin bloquear hilos de I/O.")
+    public Mono<ResponseEntity<Void>> checkMutant(@Valid @RequestBody DnaRequest request) {
+        return mutantService.analyzeDna(request.getDna())
+                .map(isMutant -> isMutant
+                        ? ResponseEntity.ok().<Void>build()
+                        : ResponseEntity.status(HttpStatus.FORBIDDEN).<Void>build());
+    }
+}
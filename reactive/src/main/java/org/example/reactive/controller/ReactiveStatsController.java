@@ -0,0 +1,34 @@
+package org.example.reactive.controller;
+
+import org.example.dto.StatsResponse;
+import org.example.reactive.service.ReactiveStatsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador WebFlux para estadísticas de verificaciones de ADN.
+ */
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+@Tag(name = "Statistics", description = "API reactiva para consultar estadísticas de verificaciones de ADN")
+public class ReactiveStatsController {
+
+    private final ReactiveStatsService statsService;
+
+    /**
+     * @return StatsResponse con contadores y ratio
+     */
+    @GetMapping
+    @Operation(summary = "Obtener estadísticas",
+               description = "Cantidad de mutantes, cantidad de humanos y ratio, desde contadores en memoria.")
+    public Mono<StatsResponse> getStats() {
+        return Mono.fromSupplier(statsService::getStats);
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.reactive.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Registro de ADN analizado, mapeado con Spring Data R2DBC sobre la misma
+ * tabla dna_records que la entidad JPA del módulo principal.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("dna_records")
+public class DnaRecord {
+
+    @Id
+    private Long id;
+
+    @Column("dna_hash")
+    private byte[] dnaHash;
+
+    @Column("is_mutant")
+    private boolean mutant;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+}
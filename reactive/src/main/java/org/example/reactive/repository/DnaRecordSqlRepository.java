@@ -0,0 +1,27 @@
+package org.example.reactive.repository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Operaciones sobre dna_records con SQL explícito (MERGE y columnas BLOB).
+ */
+public interface DnaRecordSqlRepository {
+
+    /**
+     * Inserta el registro si el hash todavía no existe.
+     *
+     * @param dnaHash     hash binario del ADN
+     * @param fingerprint huella compacta del ADN, o null
+     * @param isMutant    veredicto
+     * @return true si se insertó, false si el hash ya existía
+     */
+    Mono<Boolean> insertIgnore(byte[] dnaHash, byte[] fingerprint, boolean isMutant);
+
+    /**
+     * Huella compacta guardada con el registro.
+     *
+     * @param dnaHash hash binario del ADN
+     * @return huella del registro, vacío si no existe o no tiene
+     */
+    Mono<byte[]> findFingerprintByDnaHash(byte[] dnaHash);
+}
@@ -0,0 +1,64 @@
+package org.example.reactive.repository;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación con {@link DatabaseClient} de {@link DnaRecordSqlRepository}.
+ * Usa el mismo MERGE ... WHEN NOT MATCHED que la variante JDBC para que un hash
+ * repetido no viole el índice único.
+ */
+@RequiredArgsConstructor
+public class DnaRecordSqlRepositoryImpl implements DnaRecordSqlRepository {
+
+    private static final String INSERT_IGNORE_SQL =
+            "MERGE INTO dna_records t " +
+            "USING (VALUES (CAST(:hash AS BINARY(32)), CAST(:fingerprint AS BLOB), " +
+            "CAST(:mutant AS BOOLEAN), CAST(:createdAt AS TIMESTAMP))) " +
+            "s (dna_hash, dna_fingerprint, is_mutant, created_at) ON t.dna_hash = s.dna_hash " +
+            "WHEN NOT MATCHED THEN INSERT (dna_hash, dna_fingerprint, is_mutant, created_at) " +
+            "VALUES (s.dna_hash, s.dna_fingerprint, s.is_mutant, s.created_at)";
+
+    private static final String FINGERPRINT_SQL =
+            "SELECT dna_fingerprint FROM dna_records WHERE dna_hash = CAST(:hash AS BINARY(32))";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Boolean> insertIgnore(byte[] dnaHash, byte[] fingerprint, boolean isMutant) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_IGNORE_SQL)
+                .bind("hash", dnaHash)
+                .bind("mutant", isMutant)
+                .bind("createdAt", LocalDateTime.now());
+        spec = fingerprint != null ? spec.bind("fingerprint", fingerprint) : spec.bindNull("fingerprint", byte[].class);
+        return spec.fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0)
+                // MERGE no ve las filas sin confirmar: si otra transacción insertó el mismo hash
+                // entre la búsqueda y el insert, H2 espera su commit y reporta la clave duplicada.
+                // Solo falla la sentencia; la transacción sigue siendo válida.
+                .onErrorResume(DuplicateKeyException.class, e -> Mono.just(false));
+    }
+
+    @Override
+    public Mono<byte[]> findFingerprintByDnaHash(byte[] dnaHash) {
+        return databaseClient.sql(FINGERPRINT_SQL)
+                .bind("hash", dnaHash)
+                // El driver devuelve los BLOB como ByteBuffer
+                .map(row -> Optional.ofNullable(row.get(0, ByteBuffer.class)))
+                .one()
+                .flatMap(Mono::justOrEmpty)
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    return bytes;
+                });
+    }
+}
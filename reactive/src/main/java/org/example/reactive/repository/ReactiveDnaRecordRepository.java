@@ -0,0 +1,28 @@
+package org.example.reactive.repository;
+
+import org.example.reactive.entity.DnaRecord;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositorio R2DBC equivalente a {@code DnaRecordRepository}.
+ */
+public interface ReactiveDnaRecordRepository extends R2dbcRepository<DnaRecord, Long>, DnaRecordSqlRepository {
+
+    /**
+     * Busca un registro de ADN por su hash binario.
+     *
+     * @param dnaHash hash binario del ADN
+     * @return el registro si existe
+     */
+    Mono<DnaRecord> findByDnaHash(byte[] dnaHash);
+
+    /**
+     * Cuenta la cantidad de registros de mutantes o humanos.
+     *
+     * @param mutant true para contar mutantes, false para humanos
+     * @return cantidad de registros
+     */
+    Mono<Long> countByMutant(boolean mutant);
+}
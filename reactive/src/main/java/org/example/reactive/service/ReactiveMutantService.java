@@ -0,0 +1,83 @@
+package org.example.reactive.service;
+
+import java.util.Arrays;
+
+import org.example.reactive.repository.ReactiveDnaRecordRepository;
+import org.example.service.DnaFingerprint;
+import org.example.service.DnaHash;
+import org.example.service.DnaHasher;
+import org.example.service.MutantDetector;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Versión no bloqueante de {@code MutantService}.
+ * El hash y la detección (CPU) corren en el scheduler acotado de detección; la
+ * búsqueda y la inserción usan R2DBC sin bloquear hilos.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveMutantService {
+
+    private final MutantDetector mutantDetector;
+    private final DnaHasher dnaHasher;
+    private final ReactiveDnaRecordRepository repository;
+    private final ReactiveStatsService statsService;
+    private final Scheduler detectorScheduler;
+
+    /**
+     * Analiza un ADN y persiste el resultado si el hash es nuevo.
+     *
+     * @param dna Array de Strings con la secuencia de ADN (ya validada)
+     * @return true si es mutante, false si es humano
+     */
+    public Mono<Boolean> analyzeDna(String[] dna) {
+        return Mono.fromCallable(() -> dnaHasher.hash(dna))
+                .subscribeOn(detectorScheduler)
+                .flatMap(dnaHash -> repository.findByDnaHash(dnaHash.bytes())
+                        .flatMap(existing -> verifyExisting(dna, dnaHash, existing.isMutant()))
+                        .switchIfEmpty(Mono.defer(() -> analyzeAndPersist(dna, dnaHash))));
+    }
+
+    /**
+     * Con verificación de colisiones, compara la huella guardada antes de aceptar el hit.
+     */
+    private Mono<Boolean> verifyExisting(String[] dna, DnaHash dnaHash, boolean isMutant) {
+        if (!dnaHasher.verifiesCollisions()) {
+            return Mono.just(isMutant);
+        }
+        return repository.findFingerprintByDnaHash(dnaHash.bytes())
+                .flatMap(stored -> {
+                    if (Arrays.equals(stored, DnaFingerprint.of(dna))) {
+                        return Mono.just(isMutant);
+                    }
+                    log.warn("Colisión de hash {}: se analiza el ADN sin deduplicar", dnaHash);
+                    return detect(dna);
+                })
+                // Registro sin huella (guardado antes de habilitar la verificación)
+                .defaultIfEmpty(isMutant);
+    }
+
+    private Mono<Boolean> analyzeAndPersist(String[] dna, DnaHash dnaHash) {
+        byte[] fingerprint = dnaHasher.verifiesCollisions() ? DnaFingerprint.of(dna) : null;
+        return detect(dna)
+                .flatMap(isMutant -> repository.insertIgnore(dnaHash.bytes(), fingerprint, isMutant)
+                        .doOnNext(inserted -> {
+                            // Solo los hashes nuevos cuentan para /stats
+                            if (inserted) {
+                                statsService.recordNewDna(isMutant);
+                            }
+                        })
+                        .thenReturn(isMutant));
+    }
+
+    private Mono<Boolean> detect(String[] dna) {
+        return Mono.fromCallable(() -> mutantDetector.isMutant(dna))
+                .subscribeOn(detectorScheduler);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.reactive.service;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+import org.example.dto.StatsResponse;
+import org.example.reactive.repository.ReactiveDnaRecordRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Estadísticas en memoria de la variante reactiva, igual que {@code StatsService}:
+ * los contadores se cargan de la base al iniciar y se incrementan con cada
+ * registro insertado, así que GET /stats no consulta la base.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveStatsService implements SmartInitializingSingleton {
+
+    private final ReactiveDnaRecordRepository repository;
+
+    private final LongAdder mutantCount = new LongAdder();
+    private final LongAdder humanCount = new LongAdder();
+
+    /**
+     * Los incrementos comparten el read lock y la foto toma el write lock.
+     */
+    private final StampedLock snapshotLock = new StampedLock();
+
+    /**
+     * Carga los contadores en el arranque, antes de que Netty acepte conexiones
+     * (bloquear aquí no ocupa ningún event loop).
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        long countMutant = repository.countByMutant(true).blockOptional().orElse(0L);
+        long countHuman = repository.countByMutant(false).blockOptional().orElse(0L);
+        mutantCount.add(countMutant);
+        humanCount.add(countHuman);
+        log.info("Contadores de estadísticas cargados (mutantes={}, humanos={})", countMutant, countHuman);
+    }
+
+    /**
+     * Registra un ADN recién insertado. No debe llamarse para hits de deduplicación.
+     */
+    public void recordNewDna(boolean isMutant) {
+        long stamp = snapshotLock.readLock();
+        try {
+            (isMutant ? mutantCount : humanCount).increment();
+        } finally {
+            snapshotLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return StatsResponse con contadores y ratio
+     */
+    public StatsResponse getStats() {
+        long countMutant;
+        long countHuman;
+        long stamp = snapshotLock.writeLock();
+        try {
+            countMutant = mutantCount.sum();
+            countHuman = humanCount.sum();
+        } finally {
+            snapshotLock.unlockWrite(stamp);
+        }
+        double ratio = countHuman == 0 ? 0.0 : (double) countMutant / countHuman;
+
+        return new StatsResponse(countMutant, countHuman, ratio);
+    }
+}
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS dna_records (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    dna_hash BINARY(32) NOT NULL,
+    dna_fingerprint BLOB,
+    is_mutant BOOLEAN NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_dna_records_dna_hash UNIQUE (dna_hash)
+);
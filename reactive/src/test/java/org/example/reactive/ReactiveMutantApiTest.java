@@ -0,0 +1,66 @@
+package org.example.reactive;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Tests de integración de la variante reactiva (WebFlux + R2DBC sobre H2).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("API reactiva - Tests de Integración")
+class ReactiveMutantApiTest {
+
+    private static final String[] MUTANT_DNA = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+    private static final String[] HUMAN_DNA = {"ATGCGA", "CAGTGC", "TTATTT", "AGACGG", "GCGTCA", "TCACTG"};
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("POST /mutant retorna 200 para mutante y 403 para humano")
+    void testMutantAndHuman() {
+        postDna(MUTANT_DNA).expectStatus().isOk();
+        postDna(HUMAN_DNA).expectStatus().isForbidden();
+    }
+
+    @Test
+    @DisplayName("POST /mutant retorna 400 para ADN inválido")
+    void testInvalidDna() {
+        postDna(new String[]{"ATGX", "CAGT", "TTAT", "AGAC"})
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.status").isEqualTo(400);
+        postDna(new String[]{"ATG", "CAG"}).expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /stats cuenta cada ADN una sola vez")
+    void testStatsIgnoreDuplicates() {
+        postDna(MUTANT_DNA).expectStatus().isOk();
+        postDna(MUTANT_DNA).expectStatus().isOk();
+        postDna(HUMAN_DNA).expectStatus().isForbidden();
+        postDna(new String[]{"AAAA", "CCCC", "TATA", "GAGA"}).expectStatus().isOk();
+
+        webTestClient.get().uri("/stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.count_mutant_dna").isEqualTo(2)
+                .jsonPath("$.count_human_dna").isEqualTo(1)
+                .jsonPath("$.ratio").isEqualTo(2.0);
+    }
+
+    private WebTestClient.ResponseSpec postDna(String[] dna) {
+        return webTestClient.post().uri("/mutant")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("dna", dna))
+                .exchange();
+    }
+}
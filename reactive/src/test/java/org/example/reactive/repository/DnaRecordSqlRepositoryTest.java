@@ -0,0 +1,72 @@
+package org.example.reactive.repository;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Tests de integración del MERGE de DnaRecordSqlRepository contra la H2 en memoria.
+ */
+@SpringBootTest
+@DisplayName("DnaRecordSqlRepository - Tests de Integración")
+class DnaRecordSqlRepositoryTest {
+
+    @Autowired
+    private ReactiveDnaRecordRepository repository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    @DisplayName("Un insert del mismo hash que otra transacción sin confirmar no falla y no duplica")
+    void testInsertIgnoreRace() throws Exception {
+        // Arrange
+        byte[] hash = randomHash();
+        CountDownLatch firstInserted = new CountDownLatch(1);
+
+        // Act: la primera transacción inserta y espera antes de confirmar
+        CompletableFuture<Boolean> first = repository.insertIgnore(hash, null, true)
+                .doOnNext(inserted -> firstInserted.countDown())
+                .delayUntil(inserted -> Mono.delay(Duration.ofMillis(200)))
+                .as(transactionalOperator::transactional)
+                .toFuture();
+        assertTrue(firstInserted.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> second = repository.insertIgnore(hash, null, true)
+                .as(transactionalOperator::transactional)
+                .subscribeOn(Schedulers.boundedElastic())
+                .toFuture();
+
+        // Assert
+        assertTrue(first.get(10, TimeUnit.SECONDS));
+        assertFalse(second.get(10, TimeUnit.SECONDS));
+        assertEquals(1L, databaseClient.sql("SELECT COUNT(*) FROM dna_records WHERE dna_hash = CAST(:hash AS BINARY(32))")
+                .bind("hash", hash)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block());
+    }
+
+    private static byte[] randomHash() {
+        byte[] hash = new byte[32];
+        ThreadLocalRandom.current().nextBytes(hash);
+        return hash;
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.MutantDetectorApplication;
+import org.example.service.MutantService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Camino completo de {@link MutantService#analyzeDna} (hash, caché, búsqueda,
+ * detección y persistencia) contra la H2 en memoria, sin servidor web ni MockMvc.
+ *
+ * <p>{@code newHumanDna} y {@code newMutantDna} analizan un ADN distinto en cada
+ * invocación (siempre insertan): el humano en el peor caso, con escaneo completo, y
+ * el mutante con dos secuencias en las primeras filas, que corta el escaneo al inicio.
+ * {@code repeatedDna} repite el mismo ADN (hit de deduplicación, de la caché o de H2
+ * según {@code cacheCapacity}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalyzeDnaBenchmark {
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    @Param({"6", "100"})
+    private int n;
+
+    @Param({"0", "100000"})
+    private int cacheCapacity;
+
+    @Param({"false", "true"})
+    private boolean writeBehind;
+
+    private ConfigurableApplicationContext context;
+    private MutantService mutantService;
+    private char[][] cells;
+    private int[][] freeCells;
+    private String[] repeatedDna;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(MutantDetectorApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.example=WARN",
+                "--mutant.cache.capacity=" + cacheCapacity,
+                "--mutant.persistence.write-behind.enabled=" + writeBehind);
+        mutantService = context.getBean(MutantService.class);
+
+        cells = BenchmarkDna.worstCaseHuman(n);
+        freeCells = BenchmarkDna.freeCells(cells);
+        repeatedDna = BenchmarkDna.toStrings(cells);
+        mutantService.analyzeDna(repeatedDna);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean newHumanDna() {
+        return mutantService.analyzeDna(uniqueDna(false));
+    }
+
+    @Benchmark
+    public boolean newMutantDna() {
+        return mutantService.analyzeDna(uniqueDna(true));
+    }
+
+    @Benchmark
+    public boolean repeatedDna() {
+        return mutantService.analyzeDna(repeatedDna);
+    }
+
+    /**
+     * Codifica un contador en las celdas libres del peor caso humano (2 bits por
+     * celda, hasta 32 celdas): cada ADN es nuevo y sigue siendo humano. Con n=6 hay
+     * 12 celdas libres, 2^24 ADN distintos.
+     */
+    private String[] uniqueDna(boolean mutant) {
+        long value = ++sequence;
+        String[] dna = repeatedDna.clone();
+        char[][] rows = new char[n][];
+        for (int i = 0; i < Math.min(freeCells.length, 32); i++, value >>>= 2) {
+            int row = freeCells[i][0];
+            if (rows[row] == null) {
+                rows[row] = cells[row].clone();
+            }
+            rows[row][freeCells[i][1]] = BASES[(int) (value & 3)];
+        }
+        if (mutant) {
+            for (int row = 0; row < 2; row++) {
+                if (rows[row] == null) {
+                    rows[row] = cells[row].clone();
+                }
+                BenchmarkDna.fillRun(rows[row]);
+            }
+        }
+        for (int row = 0; row < n; row++) {
+            if (rows[row] != null) {
+                dna[row] = new String(rows[row]);
+            }
+        }
+        return dna;
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matrices de ADN deterministas para los benchmarks.
+ */
+public final class BenchmarkDna {
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    /**
+     * Formas de entrada según cuánto debe recorrer el detector.
+     */
+    public enum Shape {
+        /** Dos secuencias en las primeras filas: corta el escaneo al inicio. */
+        EARLY_MUTANT,
+        /** Dos secuencias en las últimas filas: recorre casi toda la matriz. */
+        LATE_MUTANT,
+        /** Humano con tramos de 3 en todas las direcciones: escaneo completo sin atajos. */
+        WORST_HUMAN
+    }
+
+    private BenchmarkDna() {
+    }
+
+    static String[] matrix(int n, Shape shape) {
+        char[][] cells = worstCaseHuman(n);
+        switch (shape) {
+            case EARLY_MUTANT -> {
+                fillRun(cells[0]);
+                fillRun(cells[1]);
+            }
+            case LATE_MUTANT -> {
+                fillRun(cells[n - 2]);
+                fillRun(cells[n - 1]);
+            }
+            case WORST_HUMAN -> {
+                // Sin cambios
+            }
+        }
+        return toStrings(cells);
+    }
+
+    /**
+     * Bloques de 3x3 iguales con valor (bloqueFila + 2 * bloqueColumna) mod 4: los
+     * bloques vecinos en las 8 direcciones difieren, así que hay tramos de 3 bases
+     * iguales en todas las direcciones pero ninguna secuencia de 4.
+     */
+    static char[][] worstCaseHuman(int n) {
+        char[][] cells = new char[n][n];
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                cells[row][col] = BASES[(row / 3 + 2 * (col / 3)) & 3];
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Celdas de {@code cells} (una matriz humana) que pueden tomar cualquier base sin
+     * formar una secuencia de 4: todo tramo de 4 que pasa por ellas, en las 4
+     * direcciones, conserva dos celdas fijas con bases distintas. Quedan afuera las
+     * celdas que ocupa {@link Shape#EARLY_MUTANT}, para poder combinar ambas.
+     *
+     * @return pares {fila, columna} en orden de filas
+     */
+    static int[][] freeCells(char[][] cells) {
+        int n = cells.length;
+        boolean[][] free = new boolean[n][n];
+        List<int[]> result = new ArrayList<>();
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                if ((row >= 2 || col >= 4) && keepsRunsBroken(cells, free, row, col)) {
+                    free[row][col] = true;
+                    result.add(new int[]{row, col});
+                }
+            }
+        }
+        return result.toArray(new int[0][]);
+    }
+
+    static String[] toStrings(char[][] cells) {
+        String[] dna = new String[cells.length];
+        for (int row = 0; row < cells.length; row++) {
+            dna[row] = new String(cells[row]);
+        }
+        return dna;
+    }
+
+    private static boolean keepsRunsBroken(char[][] cells, boolean[][] free, int row, int col) {
+        int n = cells.length;
+        for (int[] direction : DIRECTIONS) {
+            for (int offset = -3; offset <= 0; offset++) {
+                int startRow = row + offset * direction[0];
+                int startCol = col + offset * direction[1];
+                int endRow = startRow + 3 * direction[0];
+                int endCol = startCol + 3 * direction[1];
+                if (startRow < 0 || startCol < 0 || startCol >= n || endRow >= n || endCol < 0 || endCol >= n) {
+                    continue;
+                }
+                char fixed = 0;
+                boolean mixed = false;
+                for (int i = 0; i < 4 && !mixed; i++) {
+                    int r = startRow + i * direction[0];
+                    int c = startCol + i * direction[1];
+                    if ((r == row && c == col) || free[r][c]) {
+                        continue;
+                    }
+                    if (fixed == 0) {
+                        fixed = cells[r][c];
+                    } else if (cells[r][c] != fixed) {
+                        mixed = true;
+                    }
+                }
+                if (!mixed) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    static void fillRun(char[] row) {
+        for (int col = 0; col < 4; col++) {
+            row[col] = 'T';
+        }
+    }
+}
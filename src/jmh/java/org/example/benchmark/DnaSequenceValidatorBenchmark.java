@@ -0,0 +1,38 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.validator.DnaSequenceValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Costo de la validación de bean validation sobre una matriz válida (recorrido completo).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DnaSequenceValidatorBenchmark {
+
+    @Param({"6", "100", "1000", "5000"})
+    private int n;
+
+    private final DnaSequenceValidator validator = new DnaSequenceValidator();
+    private String[] dna;
+
+    @Setup
+    public void setUp() {
+        dna = BenchmarkDna.matrix(n, BenchmarkDna.Shape.WORST_HUMAN);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(dna, null);
+    }
+}
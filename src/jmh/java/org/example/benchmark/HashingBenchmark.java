@@ -0,0 +1,56 @@
+package org.example.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import org.example.service.DnaHash;
+import org.example.service.Murmur3DnaHasher;
+import org.example.service.Sha256DnaHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Costo del hash de deduplicación por tamaño. {@code joinSha256} reproduce la
+ * implementación original (String.join + MessageDigest por request) como referencia.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HashingBenchmark {
+
+    @Param({"6", "100", "1000", "5000"})
+    private int n;
+
+    private final Sha256DnaHasher sha256 = new Sha256DnaHasher();
+    private final Murmur3DnaHasher murmur3 = new Murmur3DnaHasher(false);
+    private String[] dna;
+
+    @Setup
+    public void setUp() {
+        dna = BenchmarkDna.matrix(n, BenchmarkDna.Shape.WORST_HUMAN);
+    }
+
+    @Benchmark
+    public byte[] joinSha256() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return digest.digest(String.join("", dna).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public DnaHash sha256() {
+        return sha256.hash(dna);
+    }
+
+    @Benchmark
+    public DnaHash murmur3() {
+        return murmur3.hash(dna);
+    }
+}
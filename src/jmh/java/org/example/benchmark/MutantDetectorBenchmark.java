@@ -0,0 +1,59 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.service.MutantDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Costo de {@link MutantDetector#isMutant} por tamaño, forma de entrada y motor.
+ * {@code parallel} usa el motor fork/join para cualquier N.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MutantDetectorBenchmark {
+
+    @Param({"6", "100", "1000", "5000"})
+    private int n;
+
+    @Param({"EARLY_MUTANT", "LATE_MUTANT", "WORST_HUMAN"})
+    private BenchmarkDna.Shape shape;
+
+    @Param({"scalar", "bitpacked", "runlength", "vector", "parallel"})
+    private String engine;
+
+    private MutantDetector detector;
+    private String[] dna;
+
+    @Setup
+    public void setUp() {
+        detector = "parallel".equals(engine)
+                ? new MutantDetector("scalar", 1, 0)
+                : new MutantDetector(engine);
+        dna = BenchmarkDna.matrix(n, shape);
+
+        boolean expected = shape != BenchmarkDna.Shape.WORST_HUMAN;
+        if (detector.isMutant(dna) != expected) {
+            throw new IllegalStateException("Veredicto inesperado para " + shape + " N=" + n);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        detector.shutdown();
+    }
+
+    @Benchmark
+    public boolean isMutant() {
+        return detector.isMutant(dna);
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import org.example.MutantDetectorApplication;
+import org.example.entity.DnaRecord;
+import org.example.repository.DnaRecordRepository;
+import org.example.service.StartupLoader;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Límites de un nodo con el perfil prod (H2 en archivo): inserta {@code rows}
+ * registros en batches por la misma sentencia que la aplicación
+ * ({@code insertIgnoreAll}) y, al pasar por 1M, 2M, 5M, 10M... registros, mide:
+ *
+ * <ul>
+ *   <li>inserciones por segundo desde el punto anterior;</li>
+ *   <li>búsquedas por hash por segundo ({@code findByDnaHash}) de hashes existentes
+ *       (hit) y nuevos (miss), en un hilo y con hashes al azar, es decir sin
+ *       localidad en la caché de páginas;</li>
+ *   <li>tamaño del archivo.</li>
+ * </ul>
+ *
+ * Al final reinicia la aplicación sobre la base llena con la carga de arranque
+ * en línea y en segundo plano ({@code mutant.startup.async-load}) y mide cuánto
+ * tarda en estar lista y en completar la carga.
+ *
+ * <p>Uso: {@code ./gradlew storageBenchmark [-PstorageRows=10000000] [-PstorageDir=build/storage-benchmark]}.
+ * La base queda en el directorio indicado y se reutiliza si ya tiene registros.
+ * Los resultados, con la versión de Java y los CPUs, se escriben en JSON en
+ * {@code build/results/storage/results.json}.
+ */
+public final class StorageBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int LOOKUPS = 100_000;
+
+    private StorageBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        long rows = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+        Path dataDir = Path.of(args.length > 1 ? args[1] : "build/storage-benchmark");
+        Path resultsFile = Path.of(args.length > 2 ? args[2] : "build/results/storage/results.json");
+        Files.createDirectories(dataDir);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("java", Runtime.version().toString());
+        results.put("cpus", Runtime.getRuntime().availableProcessors());
+        results.put("rows", rows);
+        results.put("batchSize", BATCH_SIZE);
+        results.put("lookupsPerCheckpoint", LOOKUPS);
+        results.put("checkpoints", load(dataDir, rows));
+        List<Map<String, Object>> restarts = new ArrayList<>();
+        for (boolean asyncLoad : new boolean[]{false, true}) {
+            restarts.add(restart(dataDir, asyncLoad));
+        }
+        results.put("restarts", restarts);
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+        mapper.writeValue(resultsFile.toFile(), results);
+        System.out.println(mapper.writeValueAsString(results));
+    }
+
+    private static List<Map<String, Object>> load(Path dataDir, long rows) {
+        List<Map<String, Object>> checkpoints = new ArrayList<>();
+        try (ConfigurableApplicationContext context = start(dataDir, false)) {
+            DnaRecordRepository repository = context.getBean(DnaRecordRepository.class);
+            TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+
+            long inserted = repository.count();
+            long checkpoint = 1_000_000;
+            while (checkpoint <= inserted) {
+                checkpoint = nextCheckpoint(checkpoint);
+            }
+            long segmentStart = System.nanoTime();
+            long segmentRows = 0;
+            while (inserted < rows) {
+                long target = Math.min(Math.min(checkpoint, rows), inserted + BATCH_SIZE);
+                List<DnaRecord> batch = new ArrayList<>((int) (target - inserted));
+                for (long i = inserted; i < target; i++) {
+                    DnaRecord record = new DnaRecord();
+                    record.setDnaHash(hash(i));
+                    record.setMutant(i % 3 == 0);
+                    batch.add(record);
+                }
+                transactionTemplate.executeWithoutResult(status -> repository.insertIgnoreAll(batch));
+                segmentRows += batch.size();
+                inserted = target;
+
+                if (inserted == Math.min(checkpoint, rows)) {
+                    double insertSeconds = (System.nanoTime() - segmentStart) / 1e9;
+                    checkpoints.add(measure(repository, dataDir, inserted, segmentRows / insertSeconds));
+                    checkpoint = nextCheckpoint(checkpoint);
+                    segmentStart = System.nanoTime();
+                    segmentRows = 0;
+                }
+            }
+            if (checkpoints.isEmpty()) {
+                checkpoints.add(measure(repository, dataDir, inserted, 0));
+            }
+        }
+        return checkpoints;
+    }
+
+    private static Map<String, Object> measure(DnaRecordRepository repository, Path dataDir, long rows,
+                                               double insertsPerSecond) {
+        SplittableRandom random = new SplittableRandom(rows);
+        // Calentamiento
+        for (int i = 0; i < LOOKUPS / 10; i++) {
+            repository.findByDnaHash(hash(random.nextLong(rows)));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (repository.findByDnaHash(hash(random.nextLong(rows))).isEmpty()) {
+                throw new IllegalStateException("Falta un registro insertado");
+            }
+        }
+        double hitSeconds = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            repository.findByDnaHash(hash(Long.MIN_VALUE + random.nextLong(rows)));
+        }
+        double missSeconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rows", rows);
+        result.put("insertsPerSecond", Math.round(insertsPerSecond));
+        result.put("lookupHitsPerSecond", Math.round(LOOKUPS / hitSeconds));
+        result.put("lookupMissesPerSecond", Math.round(LOOKUPS / missSeconds));
+        result.put("fileMb", fileSize(dataDir) / (1024 * 1024));
+        System.out.println("Storage benchmark: " + result);
+        return result;
+    }
+
+    private static Map<String, Object> restart(Path dataDir, boolean asyncLoad) throws InterruptedException {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = start(dataDir, asyncLoad)) {
+            long ready = System.nanoTime();
+            StartupLoader startupLoader = context.getBean(StartupLoader.class);
+            while (startupLoader.pending() > 0) {
+                Thread.sleep(10);
+            }
+            long loaded = System.nanoTime();
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("asyncLoad", asyncLoad);
+            result.put("rows", context.getBean(DnaRecordRepository.class).count());
+            result.put("readyMs", (ready - start) / 1_000_000);
+            result.put("loadedMs", (loaded - start) / 1_000_000);
+            return result;
+        }
+    }
+
+    private static ConfigurableApplicationContext start(Path dataDir, boolean asyncLoad) {
+        return new SpringApplicationBuilder(MutantDetectorApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .run("--MUTANT_DB_PATH=" + dataDir.toAbsolutePath().resolve("mutantdb"),
+                        "--mutant.startup.async-load=" + asyncLoad,
+                        "--logging.level.org.example=WARN");
+    }
+
+    /**
+     * 1M, 2M, 5M, 10M, 20M...
+     */
+    private static long nextCheckpoint(long checkpoint) {
+        long magnitude = 1;
+        while (magnitude * 10 <= checkpoint) {
+            magnitude *= 10;
+        }
+        long leading = checkpoint / magnitude;
+        return leading == 1 ? 2 * magnitude : leading == 2 ? 5 * magnitude : 10 * magnitude;
+    }
+
+    /**
+     * Hash determinista del registro {@code index}: uniforme, como un SHA-256.
+     */
+    private static byte[] hash(long index) {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        SplittableRandom random = new SplittableRandom(index);
+        for (int i = 0; i < 4; i++) {
+            buffer.putLong(random.nextLong());
+        }
+        return buffer.array();
+    }
+
+    private static long fileSize(Path dataDir) {
+        try (Stream<Path> files = Files.list(dataDir)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
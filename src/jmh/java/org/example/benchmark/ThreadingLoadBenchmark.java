@@ -0,0 +1,212 @@
+package org.example.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.MutantDetectorApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+/**
+ * Prueba de carga de POST /mutant con hilos de plataforma y con hilos virtuales
+ * ({@code spring.threads.virtual.enabled}). Levanta la aplicación con Tomcat real
+ * en un puerto libre para cada modo y la carga con {@code clients} clientes
+ * concurrentes durante {@code seconds} segundos; cada request envía un ADN nuevo,
+ * por lo que siempre pasa por JDBC.
+ *
+ * <p>Uso: {@code ./gradlew loadBenchmark [-PloadClients=1000] [-PloadSeconds=30] [-PloadSize=6]
+ * [-PloadProfiles=perf]}. Con {@code loadProfiles} la aplicación arranca con esos
+ * perfiles de Spring, para comparar una configuración contra la base.
+ * Requiere Java 21 para el modo virtual. Los resultados se escriben en JSON en
+ * {@code build/results/load/results.json}.
+ *
+ * <p>La configuración de la aplicación no activa ni documenta los hilos virtuales:
+ * el modo se habilita solo después de registrar esta comparación en el hardware de
+ * producción.
+ */
+public final class ThreadingLoadBenchmark {
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+    private static final int WARMUP_SECONDS = 5;
+
+    private ThreadingLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int size = args.length > 2 ? Integer.parseInt(args[2]) : 6;
+        Path resultsFile = Path.of(args.length > 3 ? args[3] : "build/results/load/results.json");
+        String profiles = args.length > 4 ? args[4] : "";
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            results.add(run(virtualThreads, clients, seconds, size, profiles));
+        }
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+        mapper.writeValue(resultsFile.toFile(), results);
+        System.out.println(mapper.writeValueAsString(results));
+    }
+
+    private static Map<String, Object> run(boolean virtualThreads, int clients, int seconds, int size,
+                                           String profiles) throws InterruptedException {
+        ConfigurableApplicationContext context = SpringApplication.run(MutantDetectorApplication.class,
+                "--server.port=0",
+                "--spring.profiles.active=" + profiles,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.example=WARN");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/mutant");
+
+            load(uri, clients, WARMUP_SECONDS, size, new long[1 << 16]);
+            // Latencias de los primeros 2M requests (suficiente para p99)
+            long[] latencies = new long[1 << 21];
+            LoadResult load = load(uri, clients, seconds, size, latencies);
+
+            long[] sorted = Arrays.copyOf(latencies, (int) Math.min(load.completed, latencies.length));
+            Arrays.sort(sorted);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("mode", virtualThreads ? "virtual" : "platform");
+            result.put("profiles", profiles);
+            result.put("java", Runtime.version().toString());
+            result.put("cpus", Runtime.getRuntime().availableProcessors());
+            // En Java 17 Spring ignora el switch y el modo virtual corre con hilos de plataforma
+            result.put("virtualThreadsActive", Threading.VIRTUAL.isActive(context.getEnvironment()));
+            result.put("clients", clients);
+            result.put("seconds", seconds);
+            result.put("n", size);
+            result.put("requests", load.completed);
+            result.put("errors", load.errors);
+            result.put("throughputPerSecond", load.completed / (double) seconds);
+            result.put("latencyP50Ms", percentileMs(sorted, 0.50));
+            result.put("latencyP99Ms", percentileMs(sorted, 0.99));
+            result.put("latencyMaxMs", percentileMs(sorted, 1.0));
+            result.put("poolAcquireP99Ms", poolAcquireP99Ms(context));
+            return result;
+        } finally {
+            context.close();
+        }
+    }
+
+    private static LoadResult load(URI uri, int clients, int seconds, int size, long[] latencies)
+            throws InterruptedException {
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong sequence = new AtomicLong(System.nanoTime());
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int c = 0; c < clients; c++) {
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(uri)
+                                .header("Content-Type", "application/json")
+                                .timeout(Duration.ofSeconds(30))
+                                .POST(HttpRequest.BodyPublishers.ofString(body(sequence.incrementAndGet(), size)))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status != 200 && status != 403) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            long index = completed.getAndIncrement();
+                            if (index < latencies.length) {
+                                latencies[(int) index] = System.nanoTime() - start;
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+        return new LoadResult(completed.get(), errors.get());
+    }
+
+    /**
+     * ADN distinto para cada valor de {@code sequence} (codificado en las primeras bases).
+     */
+    private static String body(long sequence, int size) {
+        char[][] cells = BenchmarkDna.worstCaseHuman(size);
+        long value = sequence;
+        for (int position = 0; position < Math.min(size * size, 32); position++, value >>>= 2) {
+            cells[position / size][position % size] = BASES[(int) (value & 3)];
+        }
+        StringBuilder json = new StringBuilder(size * (size + 3) + 10).append("{\"dna\":[");
+        for (int row = 0; row < size; row++) {
+            json.append(row == 0 ? "\"" : ",\"").append(cells[row]).append('"');
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * p99 de la espera por una conexión del pool (hikaricp.connections.acquire).
+     */
+    private static double poolAcquireP99Ms(ConfigurableApplicationContext context) {
+        Timer acquire = context.getBean(MeterRegistry.class).find("hikaricp.connections.acquire").timer();
+        if (acquire == null) {
+            return 0;
+        }
+        for (ValueAtPercentile percentile : acquire.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return acquire.max(TimeUnit.MILLISECONDS);
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record LoadResult(long completed, long errors) {
+    }
+}
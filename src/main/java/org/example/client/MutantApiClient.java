@@ -0,0 +1,59 @@
+package org.example.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.example.service.Dna2BitFormat;
+
+/**
+ * Cliente Java mínimo de POST /mutant que envía el ADN en el formato binario
+ * {@link Dna2BitFormat} en lugar de JSON.
+ *
+ * <pre>
+ *   MutantApiClient client = new MutantApiClient(URI.create("http://localhost:8080"));
+ *   boolean mutant = client.isMutant(new String[]{"ATGCGA", "CAGTGC", ...});
+ * </pre>
+ *
+ * Es thread-safe si lo es el {@link HttpClient} recibido.
+ */
+public class MutantApiClient {
+
+    private final HttpClient httpClient;
+    private final URI mutantUri;
+
+    /**
+     * @param baseUri URI base de la API (por ejemplo {@code http://localhost:8080})
+     */
+    public MutantApiClient(URI baseUri) {
+        this(HttpClient.newHttpClient(), baseUri);
+    }
+
+    public MutantApiClient(HttpClient httpClient, URI baseUri) {
+        this.httpClient = httpClient;
+        this.mutantUri = baseUri.resolve("/mutant");
+    }
+
+    /**
+     * @param dna Array de Strings con la secuencia de ADN (matriz NxN, N ≥ 4)
+     * @return true si la API responde 200 (mutante), false si responde 403 (humano)
+     * @throws IllegalArgumentException si el ADN no es una matriz válida (no se envía)
+     * @throws IOException              ante cualquier otra respuesta o error de red
+     */
+    public boolean isMutant(String[] dna) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(mutantUri)
+                .header("Content-Type", Dna2BitFormat.MEDIA_TYPE_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(Dna2BitFormat.encode(dna)))
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return switch (response.statusCode()) {
+            case 200 -> true;
+            case 403 -> false;
+            default -> throw new IOException(
+                    "POST /mutant respondió " + response.statusCode() + ": " + response.body());
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.config;
+
+import java.io.IOException;
+
+import org.example.dto.DnaRequest;
+import org.example.dto.StreamedDnaRequest;
+import org.example.exception.InvalidDnaException;
+import org.example.service.Dna2BitFormat;
+import org.example.service.PackedDna;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lee el cuerpo de POST /mutant en el formato binario {@link Dna2BitFormat}
+ * ({@code Content-Type: application/x-dna2bit}) directamente a un {@link PackedDna}.
+ * Los cuerpos JSON no pasan por acá.
+ */
+@Component
+public class Dna2BitHttpMessageConverter extends AbstractHttpMessageConverter<DnaRequest> {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(Dna2BitFormat.MEDIA_TYPE_VALUE);
+
+    public Dna2BitHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DnaRequest.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected DnaRequest readInternal(Class<? extends DnaRequest> clazz,
+                                      HttpInputMessage inputMessage) throws IOException {
+        PackedDna packed = Dna2BitFormat.decode(inputMessage.getBody().readAllBytes());
+        if (packed == null) {
+            throw new InvalidDnaException("Cuerpo " + Dna2BitFormat.MEDIA_TYPE_VALUE
+                    + " inválido: se esperan N ≥ 4 y ⌈N²/4⌉ bytes de bases");
+        }
+        StreamedDnaRequest request = new StreamedDnaRequest();
+        request.setPackedDna(packed);
+        return request;
+    }
+
+    @Override
+    protected void writeInternal(DnaRequest request, HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException("Solo lectura");
+    }
+}
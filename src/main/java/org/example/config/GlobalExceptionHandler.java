@@ -2,12 +2,14 @@ package org.example.config;
 
 import org.example.dto.ErrorResponse;
 import org.example.exception.InvalidDnaException;
+import org.example.exception.InvalidStatsQueryException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.stream.Collectors;
@@ -52,6 +54,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Maneja parámetros inválidos de GET /stats, incluidas las fechas mal formadas.
+     */
+    @ExceptionHandler({InvalidStatsQueryException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleInvalidQueryParameter(RuntimeException ex) {
+        String message = ex instanceof MethodArgumentTypeMismatchException mismatch
+                ? "Parámetro inválido: " + mismatch.getName()
+                : ex.getMessage();
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                message,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     /**
      * Maneja excepciones genéricas no controladas.
      */
@@ -0,0 +1,180 @@
+package org.example.config;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.example.dto.DnaRequest;
+import org.example.dto.StreamedDnaRequest;
+import org.example.service.PackedDna;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Lee el cuerpo de POST /mutant directamente desde sus bytes a un {@link PackedDna},
+ * validando y empaquetando cada base a medida que la recorre: sin {@code String}
+ * ni {@code char[]} por fila.
+ *
+ * <p>Solo reconoce la forma habitual {@code {"dna": ["ACGT", ...]}} con una matriz
+ * válida de N ≥ 4. Cualquier otra cosa (campos extra, escapes, bases inválidas,
+ * matriz no cuadrada) se deserializa con Jackson como siempre, de modo que los
+ * errores y sus mensajes no cambian.
+ *
+ * <p>Se habilita con {@code mutant.request.zero-copy.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "mutant.request.zero-copy.enabled", havingValue = "true")
+public class PackedDnaHttpMessageConverter extends AbstractHttpMessageConverter<DnaRequest> {
+
+    private static final byte[] DNA_FIELD = "\"dna\"".getBytes(StandardCharsets.US_ASCII);
+    private static final int MIN_SIZE = 4;
+
+    private final ObjectMapper objectMapper;
+
+    public PackedDnaHttpMessageConverter(ObjectMapper objectMapper) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DnaRequest.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected DnaRequest readInternal(Class<? extends DnaRequest> clazz,
+                                      HttpInputMessage inputMessage) throws IOException {
+        byte[] body = inputMessage.getBody().readAllBytes();
+        Charset charset = charset(inputMessage.getHeaders().getContentType());
+
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            PackedDna packed = parse(body);
+            if (packed != null) {
+                StreamedDnaRequest request = new StreamedDnaRequest();
+                request.setPackedDna(packed);
+                return request;
+            }
+        }
+
+        try {
+            return StandardCharsets.UTF_8.equals(charset)
+                    ? objectMapper.readValue(body, StreamedDnaRequest.class)
+                    : objectMapper.readValue(new String(body, charset), StreamedDnaRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON inválido: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(DnaRequest request, HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException("Solo lectura");
+    }
+
+    /**
+     * @return la matriz empaquetada, o null si el cuerpo no tiene la forma reconocida
+     *         o el ADN es inválido
+     */
+    static PackedDna parse(byte[] body) {
+        int pos = skipWhitespace(body, 0);
+        if (!isAt(body, pos, '{')) {
+            return null;
+        }
+        pos = skipWhitespace(body, pos + 1);
+        if (!matches(body, pos, DNA_FIELD)) {
+            return null;
+        }
+        pos = skipWhitespace(body, pos + DNA_FIELD.length);
+        if (!isAt(body, pos, ':')) {
+            return null;
+        }
+        pos = skipWhitespace(body, pos + 1);
+        if (!isAt(body, pos, '[')) {
+            return null;
+        }
+        pos = skipWhitespace(body, pos + 1);
+
+        PackedDna.Builder builder = null;
+        while (true) {
+            if (!isAt(body, pos, '"')) {
+                return null;
+            }
+            int start = ++pos;
+            // Un escape deja una '\' en la fila, que no es una base válida
+            while (pos < body.length && body[pos] != '"') {
+                pos++;
+            }
+            if (pos == body.length) {
+                return null;
+            }
+
+            int length = pos - start;
+            if (builder == null) {
+                // N se toma de la primera fila; el cuerpo tiene que poder contener N filas
+                if (length < MIN_SIZE || (long) length * length > body.length) {
+                    return null;
+                }
+                builder = new PackedDna.Builder(length);
+            }
+            if (!builder.appendRow(body, start, length)) {
+                return null;
+            }
+
+            pos = skipWhitespace(body, pos + 1);
+            if (isAt(body, pos, ']')) {
+                break;
+            }
+            if (!isAt(body, pos, ',')) {
+                return null;
+            }
+            pos = skipWhitespace(body, pos + 1);
+        }
+
+        pos = skipWhitespace(body, pos + 1);
+        if (!isAt(body, pos, '}') || skipWhitespace(body, pos + 1) != body.length) {
+            return null;
+        }
+        return builder.build();
+    }
+
+    private static Charset charset(MediaType contentType) {
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        return charset != null ? charset : StandardCharsets.UTF_8;
+    }
+
+    private static int skipWhitespace(byte[] body, int pos) {
+        while (pos < body.length
+                && (body[pos] == ' ' || body[pos] == '\n' || body[pos] == '\r' || body[pos] == '\t')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isAt(byte[] body, int pos, char expected) {
+        return pos < body.length && body[pos] == expected;
+    }
+
+    private static boolean matches(byte[] body, int pos, byte[] expected) {
+        if (pos + expected.length > body.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (body[pos + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
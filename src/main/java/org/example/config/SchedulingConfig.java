@@ -0,0 +1,12 @@
+package org.example.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (conciliación de estadísticas).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
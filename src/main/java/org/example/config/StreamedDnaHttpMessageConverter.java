@@ -0,0 +1,63 @@
+package org.example.config;
+
+import java.io.IOException;
+
+import org.example.dto.DnaRequest;
+import org.example.dto.StreamedDnaRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Lee el cuerpo JSON de POST /mutant como {@link StreamedDnaRequest}, de modo que
+ * la matriz se escanea mientras se deserializa. Solo aplica al {@link DnaRequest}
+ * de POST /mutant: los lotes y el NDJSON se leen como siempre.
+ *
+ * <p>Se habilita con {@code mutant.detector.streaming.enabled=true}. Con
+ * {@code mutant.request.zero-copy.enabled=true} no hace falta:
+ * {@code PackedDnaHttpMessageConverter} ya recurre a StreamedDnaRequest con los
+ * cuerpos que no empaqueta.
+ */
+@Component
+@ConditionalOnExpression("${mutant.detector.streaming.enabled:false} and !${mutant.request.zero-copy.enabled:false}")
+public class StreamedDnaHttpMessageConverter extends AbstractHttpMessageConverter<DnaRequest> {
+
+    private final ObjectMapper objectMapper;
+
+    public StreamedDnaHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DnaRequest.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected DnaRequest readInternal(Class<? extends DnaRequest> clazz,
+                                      HttpInputMessage inputMessage) throws IOException {
+        try {
+            return objectMapper.readValue(inputMessage.getBody(), StreamedDnaRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON inválido: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(DnaRequest request, HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException("Solo lectura");
+    }
+}
@@ -1,23 +1,41 @@
 package org.example.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.example.dto.DnaBatchResult;
 import org.example.dto.DnaRequest;
 import org.example.dto.ErrorResponse;
+import org.example.dto.StreamedDnaRequest;
+import org.example.exception.InvalidDnaException;
+import org.example.service.Dna2BitFormat;
 import org.example.service.MutantService;
+import org.example.service.MutantStreamService;
+import org.example.validator.DnaRequestItemValidator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Controlador REST para detección de mutantes.
  */
@@ -28,10 +46,32 @@ import lombok.RequiredArgsConstructor;
 public class MutantController {
 
     private final MutantService mutantService;
+    private final DnaRequestItemValidator itemValidator;
+    private final MutantStreamService mutantStreamService;
+
+    @Value("${mutant.batch.max-size:1000}")
+    private int batchMaxSize;
+
+    /**
+     * Los cuerpos que {@code PackedDnaHttpMessageConverter} o
+     * {@link org.example.config.Dna2BitHttpMessageConverter} ya validaron y empaquetaron
+     * no tienen {@code dna}, así que no pasan por la validación de {@code @Valid}.
+     */
+    @InitBinder("dnaRequest")
+    void skipValidationOfPackedDna(WebDataBinder binder) {
+        if (binder.getTarget() instanceof StreamedDnaRequest request && request.getPackedDna() != null) {
+            binder.setValidator(null);
+        }
+    }
 
     /**
      * Endpoint para verificar si un ADN corresponde a un mutante.
      *
+     * Con {@code mutant.detector.streaming.enabled} la matriz se escanea mientras
+     * se deserializa el cuerpo y el servicio no vuelve a recorrerla. Con
+     * {@code mutant.request.zero-copy.enabled} llega ya validada y empaquetada, igual
+     * que con {@code Content-Type: application/x-dna2bit} (ver {@link Dna2BitFormat}).
+     *
      * @param request DnaRequest con la secuencia de ADN
      * @return 200 OK si es mutante, 403 Forbidden si es humano
      */
@@ -40,7 +80,8 @@ public class MutantController {
         summary = "Detectar mutante",
         description = "Analiza una secuencia de ADN y determina si corresponde a un mutante. " +
                     "Un humano es mutante si se encuentran más de una secuencia de 4 letras iguales " +
-                    "(horizontal, vertical o diagonal)."
+                    "(horizontal, vertical o diagonal). Además de JSON acepta el formato binario " +
+                    "application/x-dna2bit: N en 4 bytes big-endian seguido de las bases a 2 bits."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -60,7 +101,14 @@ public class MutantController {
         )
     })
     public ResponseEntity<Void> checkMutant(@Valid @RequestBody DnaRequest request) {
-        boolean isMutant = mutantService.analyzeDna(request.getDna());
+        boolean isMutant;
+        if (request instanceof StreamedDnaRequest streamed && streamed.getPackedDna() != null) {
+            isMutant = mutantService.analyzePackedDna(streamed.getPackedDna());
+        } else if (request instanceof StreamedDnaRequest streamed && streamed.getStreamedVerdict() != null) {
+            isMutant = mutantService.analyzeDna(request.getDna(), streamed.getStreamedVerdict());
+        } else {
+            isMutant = mutantService.analyzeDna(request.getDna());
+        }
 
         if (isMutant) {
             return ResponseEntity.ok().build();
@@ -68,4 +116,87 @@ public class MutantController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
     }
+
+    /**
+     * Endpoint para analizar varios ADN en un solo request.
+     * Cada item se valida por separado: uno inválido no invalida el lote.
+     *
+     * @param requests lista de DnaRequest
+     * @return un resultado por item, en el mismo orden
+     */
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Detectar mutantes en lote",
+        description = "Analiza un array de secuencias de ADN y retorna un veredicto por item, " +
+                    "en el mismo orden. Los items inválidos se informan con un mensaje de error."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote analizado - un resultado por item",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = DnaBatchResult.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lote vacío o con más items que el máximo permitido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<List<DnaBatchResult>> checkMutantBatch(@RequestBody List<DnaRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidDnaException("El lote no puede estar vacío");
+        }
+        if (requests.size() > batchMaxSize) {
+            throw new InvalidDnaException("El lote no puede superar los " + batchMaxSize + " items");
+        }
+
+        DnaBatchResult[] results = new DnaBatchResult[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+        List<String[]> validDnas = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String error = itemValidator.validate(requests.get(i));
+            if (error != null) {
+                results[i] = DnaBatchResult.invalid(error);
+            } else {
+                validIndexes.add(i);
+                validDnas.add(requests.get(i).getDna());
+            }
+        }
+
+        if (!validDnas.isEmpty()) {
+            List<Boolean> verdicts = mutantService.analyzeDnaBatch(validDnas);
+            for (int j = 0; j < verdicts.size(); j++) {
+                results[validIndexes.get(j)] = DnaBatchResult.verdict(verdicts.get(j));
+            }
+        }
+        return ResponseEntity.ok(Arrays.asList(results));
+    }
+
+    /**
+     * Endpoint para análisis masivo en streaming (NDJSON).
+     * Lee un DnaRequest por línea sin cargar el cuerpo completo en memoria y
+     * escribe un resultado por línea a medida que procesa cada bloque.
+     *
+     * @param body     cuerpo NDJSON del request
+     * @param response respuesta NDJSON, un DnaBatchResult por línea de entrada
+     */
+    @PostMapping(value = "/stream",
+                 consumes = MediaType.APPLICATION_NDJSON_VALUE,
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Detectar mutantes en streaming",
+        description = "Recibe un ADN por línea en formato NDJSON ({\"dna\": [...]}) y responde un " +
+                    "resultado por línea, en el mismo orden. Pensado para cargas masivas: la memoria " +
+                    "usada no depende del tamaño del cuerpo."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Resultados en NDJSON; una línea JSON inválida corta el stream con un error",
+        content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                           schema = @Schema(implementation = DnaBatchResult.class))
+    )
+    public void checkMutantStream(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        mutantStreamService.analyze(body, response.getOutputStream());
+    }
 }
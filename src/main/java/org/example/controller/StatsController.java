@@ -1,14 +1,21 @@
 package org.example.controller;
 
+import java.time.LocalDateTime;
+
+import org.example.dto.ErrorResponse;
 import org.example.dto.StatsResponse;
+import org.example.dto.StatsWindowResponse;
 import org.example.service.StatsService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import lombok.RequiredArgsConstructor;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -45,4 +52,41 @@ public class StatsController {
         StatsResponse stats = statsService.getStats();
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * Endpoint para obtener estadísticas de una ventana de tiempo, agrupadas en
+     * buckets. Se sirve desde rollups en memoria: no recorre {@code dna_records}.
+     *
+     * @param from        inicio de la ventana (inclusivo), ISO-8601 en hora local
+     * @param to          fin de la ventana (exclusivo); por defecto, ahora
+     * @param granularity minute, hour (por defecto) o day
+     * @return StatsWindowResponse con los totales de la ventana y sus buckets
+     */
+    @GetMapping(params = "from")
+    @Operation(
+        summary = "Obtener estadísticas por ventana de tiempo",
+        description = "Retorna las verificaciones de ADN entre from y to agrupadas por minuto, hora o día. " +
+                     "Solo se incluyen los buckets con verificaciones. Los buckets se cuentan enteros: " +
+                     "from y to se devuelven alineados a la granularidad. La granularidad minute abarca " +
+                     "las últimas 24 horas."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Estadísticas obtenidas exitosamente",
+        content = @Content(schema = @Schema(implementation = StatsWindowResponse.class))
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "Parámetros inválidos",
+        content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+    )
+    public ResponseEntity<StatsWindowResponse> getWindowedStats(
+            @Parameter(description = "Inicio de la ventana (inclusivo)", example = "2024-01-15T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fin de la ventana (exclusivo); por defecto, ahora")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "minute, hour o day", example = "hour")
+            @RequestParam(required = false) String granularity) {
+        return ResponseEntity.ok(statsService.getStats(from, to, granularity));
+    }
 }
@@ -0,0 +1,33 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el veredicto de un item del endpoint POST /mutant/batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado del análisis de un ADN dentro de un lote")
+public class DnaBatchResult {
+
+    @Schema(description = "true si es mutante, false si es humano; ausente si el ADN es inválido", example = "true")
+    private Boolean mutant;
+
+    @Schema(description = "Motivo por el que el ADN es inválido", example = "El ADN no puede ser nulo")
+    private String error;
+
+    public static DnaBatchResult verdict(boolean mutant) {
+        return new DnaBatchResult(mutant, null);
+    }
+
+    public static DnaBatchResult invalid(String error) {
+        return new DnaBatchResult(null, error);
+    }
+}
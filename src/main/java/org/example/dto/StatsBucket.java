@@ -0,0 +1,36 @@
+package org.example.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contadores de un bucket de tiempo de GET /stats?from=&amp;to=&amp;granularity=.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Verificaciones de ADN en un bucket de tiempo")
+public class StatsBucket {
+
+    @JsonProperty("start")
+    @Schema(description = "Inicio del bucket (hora local)", example = "2024-01-15T10:00:00")
+    private LocalDateTime start;
+
+    @JsonProperty("count_mutant_dna")
+    @Schema(description = "Cantidad de ADN mutantes detectados en el bucket", example = "4")
+    private long countMutantDna;
+
+    @JsonProperty("count_human_dna")
+    @Schema(description = "Cantidad de ADN humanos detectados en el bucket", example = "10")
+    private long countHumanDna;
+
+    @JsonProperty("ratio")
+    @Schema(description = "Ratio de mutantes sobre humanos en el bucket", example = "0.4")
+    private double ratio;
+}
@@ -0,0 +1,53 @@
+package org.example.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para respuesta del endpoint GET /stats?from=&amp;to=&amp;granularity=.
+ * Los totales son la suma de los buckets devueltos; from y to son los límites de
+ * esos buckets (la ventana pedida, ampliada a la granularidad).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estadísticas de verificaciones de ADN en una ventana de tiempo")
+public class StatsWindowResponse {
+
+    @JsonProperty("from")
+    @Schema(description = "Inicio de la ventana (inclusivo), alineado al inicio de su bucket",
+            example = "2024-01-15T00:00:00")
+    private LocalDateTime from;
+
+    @JsonProperty("to")
+    @Schema(description = "Fin de la ventana (exclusivo), alineado al fin de su bucket",
+            example = "2024-01-16T00:00:00")
+    private LocalDateTime to;
+
+    @JsonProperty("granularity")
+    @Schema(description = "Granularidad de los buckets", example = "hour", allowableValues = {"minute", "hour", "day"})
+    private String granularity;
+
+    @JsonProperty("count_mutant_dna")
+    @Schema(description = "Cantidad de ADN mutantes detectados en la ventana", example = "40")
+    private long countMutantDna;
+
+    @JsonProperty("count_human_dna")
+    @Schema(description = "Cantidad de ADN humanos detectados en la ventana", example = "100")
+    private long countHumanDna;
+
+    @JsonProperty("ratio")
+    @Schema(description = "Ratio de mutantes sobre humanos en la ventana", example = "0.4")
+    private double ratio;
+
+    @JsonProperty("buckets")
+    @Schema(description = "Buckets no vacíos que se solapan con la ventana, en orden cronológico")
+    private List<StatsBucket> buckets;
+}
@@ -0,0 +1,52 @@
+package org.example.dto;
+
+import org.example.service.PackedDna;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DnaRequest del endpoint POST /mutant que se escanea mientras se deserializa.
+ * {@link StreamedDnaRequestDeserializer} alimenta un detector fila por fila a
+ * medida que lee el array {@code dna}; si la matriz resulta completa y válida,
+ * el veredicto queda en {@link #getStreamedVerdict()} y no hace falta volver a
+ * recorrerla. Las filas se guardan igual en {@code dna}.
+ *
+ * <p>Lo leen {@code StreamedDnaHttpMessageConverter} y, con los cuerpos que no
+ * empaqueta, {@code PackedDnaHttpMessageConverter}; sin esos convertidores POST
+ * /mutant recibe un {@link DnaRequest} común.
+ *
+ * <p>Si el cuerpo lo parseó {@code PackedDnaHttpMessageConverter}, el ADN llega
+ * ya validado en {@link #getPackedDna()} y {@code dna} queda en null.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonDeserialize(using = StreamedDnaRequestDeserializer.class)
+@Schema(description = "Request para análisis de ADN")
+public class StreamedDnaRequest extends DnaRequest {
+
+    /**
+     * null si el escaneo en streaming está deshabilitado o la matriz es inválida.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Boolean streamedVerdict;
+
+    /**
+     * null salvo que el cuerpo se haya parseado directamente desde los bytes.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private PackedDna packedDna;
+
+    public StreamedDnaRequest(String[] dna, Boolean streamedVerdict) {
+        super(dna);
+        this.streamedVerdict = streamedVerdict;
+    }
+}
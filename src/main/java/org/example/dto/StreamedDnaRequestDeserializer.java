@@ -0,0 +1,102 @@
+package org.example.dto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.service.StreamingMutantDetector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Deserializa {@link StreamedDnaRequest} leyendo el array {@code dna} token por
+ * token y pasando cada fila a un {@link StreamingMutantDetector} apenas se lee,
+ * de modo que el escaneo termina junto con el parseo. N se toma del largo de la
+ * primera fila; una vez encontrada la segunda secuencia, las filas restantes
+ * solo se validan.
+ *
+ * <p>Las filas se conservan igual en {@code dna}, porque el hash y la persistencia
+ * las necesitan: el request sigue ocupando O(N²). Lo que se ahorra es la segunda
+ * pasada del detector sobre la matriz, no memoria.
+ *
+ * <p>Spring crea la instancia con {@code SpringHandlerInstantiator}, por lo que
+ * {@code mutant.detector.streaming.enabled} decide si se escanea; con un
+ * ObjectMapper sin Spring el escaneo queda habilitado. El contenido inválido
+ * se deserializa igual que con el deserializador por defecto y lo rechaza la
+ * validación del request.
+ */
+public class StreamedDnaRequestDeserializer extends StdDeserializer<StreamedDnaRequest> {
+
+    private static final String DNA_FIELD = "dna";
+
+    private final boolean enabled;
+
+    public StreamedDnaRequestDeserializer() {
+        this(true);
+    }
+
+    @Autowired
+    public StreamedDnaRequestDeserializer(@Value("${mutant.detector.streaming.enabled:false}") boolean enabled) {
+        super(StreamedDnaRequest.class);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public StreamedDnaRequest deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+
+        StreamedDnaRequest request = new StreamedDnaRequest();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!DNA_FIELD.equals(field)) {
+                parser.skipChildren();
+            } else if (value == JsonToken.START_ARRAY && enabled) {
+                readRows(parser, context, request);
+            } else {
+                request.setDna(value == JsonToken.VALUE_NULL ? null : context.readValue(parser, String[].class));
+                request.setStreamedVerdict(null);
+            }
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            return (StreamedDnaRequest) context.handleUnexpectedToken(StreamedDnaRequest.class, parser);
+        }
+        return request;
+    }
+
+    private static void readRows(JsonParser parser, DeserializationContext context, StreamedDnaRequest request)
+            throws IOException {
+        List<String> rows = new ArrayList<>();
+        StreamingMutantDetector detector = null;
+        boolean scanning = true;
+
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            String row = switch (token) {
+                case VALUE_STRING -> parser.getText();
+                case VALUE_NULL -> null;
+                default -> context.readValue(parser, String.class);
+            };
+            rows.add(row);
+
+            if (scanning) {
+                if (detector == null && row != null && !row.isEmpty()) {
+                    detector = new StreamingMutantDetector(row.length());
+                }
+                // Fila inválida (o primera fila vacía): la validación del request la rechaza
+                scanning = detector != null && detector.acceptRow(row);
+            }
+        }
+
+        request.setDna(rows.toArray(String[]::new));
+        request.setStreamedVerdict(scanning && detector != null && detector.isComplete() ? detector.isMutant() : null);
+    }
+}
@@ -7,6 +7,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
@@ -15,7 +17,8 @@ import jakarta.persistence.Table;
  * Usa hash SHA-256 para evitar duplicados.
  */
 @Entity
-@Table(name = "dna_records")
+@Table(name = "dna_records",
+       indexes = @Index(name = "idx_dna_records_created_at", columnList = "created_at"))
 public class DnaRecord {
 
     @Id
@@ -23,11 +26,19 @@ public class DnaRecord {
     private Long id;
 
     /**
-     * Hash SHA-256 del ADN para evitar duplicados.
+     * Hash SHA-256 del ADN para evitar duplicados, en binario (32 bytes).
      * Marcado como único para garantizar integridad.
      */
-    @Column(name = "dna_hash", nullable = false, unique = true, length = 64)
-    private String dnaHash;
+    @Column(name = "dna_hash", nullable = false, unique = true, columnDefinition = "BINARY(32)")
+    private byte[] dnaHash;
+
+    /**
+     * Huella compacta exacta del ADN (2 bits por base), usada para verificar
+     * colisiones cuando el hash no es criptográfico. Null si no se verifica.
+     */
+    @Lob
+    @Column(name = "dna_fingerprint")
+    private byte[] dnaFingerprint;
 
     /**
      * Indica si el ADN corresponde a un mutante.
@@ -36,7 +47,8 @@ public class DnaRecord {
     private boolean isMutant;
 
     /**
-     * Fecha y hora de creación del registro.
+     * Fecha y hora de creación del registro. Indexada para reconstruir los
+     * rollups de estadísticas por ventana de tiempo.
      */
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -45,7 +57,7 @@ public class DnaRecord {
     public DnaRecord() {
     }
 
-    public DnaRecord(Long id, String dnaHash, boolean isMutant, LocalDateTime createdAt) {
+    public DnaRecord(Long id, byte[] dnaHash, boolean isMutant, LocalDateTime createdAt) {
         this.id = id;
         this.dnaHash = dnaHash;
         this.isMutant = isMutant;
@@ -61,14 +73,22 @@ public class DnaRecord {
         this.id = id;
     }
 
-    public String getDnaHash() {
+    public byte[] getDnaHash() {
         return dnaHash;
     }
 
-    public void setDnaHash(String dnaHash) {
+    public void setDnaHash(byte[] dnaHash) {
         this.dnaHash = dnaHash;
     }
 
+    public byte[] getDnaFingerprint() {
+        return dnaFingerprint;
+    }
+
+    public void setDnaFingerprint(byte[] dnaFingerprint) {
+        this.dnaFingerprint = dnaFingerprint;
+    }
+
     public boolean isMutant() {
         return isMutant;
     }
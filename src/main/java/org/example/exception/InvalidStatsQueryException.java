@@ -0,0 +1,11 @@
+package org.example.exception;
+
+/**
+ * Excepción para parámetros inválidos de GET /stats.
+ */
+public class InvalidStatsQueryException extends RuntimeException {
+
+    public InvalidStatsQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.example.entity.DnaRecord;
+
+/**
+ * Operaciones por lotes sobre dna_records que no pasan por el contexto de persistencia JPA.
+ */
+public interface DnaRecordBatchRepository {
+
+    /**
+     * Inserta los registros en un único batch JDBC, ignorando los hashes que ya existen.
+     *
+     * @param records registros a insertar
+     * @return registros efectivamente insertados (los de hash nuevo)
+     */
+    List<DnaRecord> insertIgnoreAll(List<DnaRecord> records);
+
+    /**
+     * Inserta un registro en una sola sentencia, sin error si el hash ya existe
+     * (aunque lo haya insertado otra transacción concurrente).
+     *
+     * @param record registro a insertar
+     * @return true si se insertó, false si el hash ya existía
+     */
+    boolean insertIgnore(DnaRecord record);
+
+    /**
+     * Recorre todos los hashes guardados sin cargar las entidades, para
+     * reconstruir estructuras en memoria.
+     *
+     * @param consumer recibe cada hash binario
+     */
+    void forEachDnaHash(Consumer<byte[]> consumer);
+}
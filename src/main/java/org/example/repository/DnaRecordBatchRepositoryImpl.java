@@ -0,0 +1,83 @@
+package org.example.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.example.entity.DnaRecord;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementación JDBC de {@link DnaRecordBatchRepository}.
+ * Usa MERGE ... WHEN NOT MATCHED para que un hash repetido no viole el índice único.
+ */
+@RequiredArgsConstructor
+public class DnaRecordBatchRepositoryImpl implements DnaRecordBatchRepository {
+
+    private static final String INSERT_IGNORE_SQL =
+            "MERGE INTO dna_records t " +
+            "USING (VALUES (CAST(? AS BINARY(32)), CAST(? AS BLOB), CAST(? AS BOOLEAN), CAST(? AS TIMESTAMP))) " +
+            "s (dna_hash, dna_fingerprint, is_mutant, created_at) ON t.dna_hash = s.dna_hash " +
+            "WHEN NOT MATCHED THEN INSERT (dna_hash, dna_fingerprint, is_mutant, created_at) " +
+            "VALUES (s.dna_hash, s.dna_fingerprint, s.is_mutant, s.created_at)";
+
+    private static final String SELECT_HASHES_SQL = "SELECT dna_hash FROM dna_records";
+    private static final int HASH_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIgnore(DnaRecord record) {
+        if (record.getCreatedAt() == null) {
+            record.setCreatedAt(LocalDateTime.now());
+        }
+        try {
+            return jdbcTemplate.update(INSERT_IGNORE_SQL, record.getDnaHash(), record.getDnaFingerprint(),
+                    record.isMutant(), Timestamp.valueOf(record.getCreatedAt())) > 0;
+        } catch (DuplicateKeyException e) {
+            // MERGE no ve las filas sin confirmar: si otra transacción insertó el mismo hash
+            // entre la búsqueda y el insert, H2 espera su commit y reporta la clave duplicada.
+            // Solo falla la sentencia; la transacción sigue siendo válida.
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachDnaHash(Consumer<byte[]> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_HASHES_SQL);
+            statement.setFetchSize(HASH_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getBytes(1)));
+    }
+
+    @Override
+    public List<DnaRecord> insertIgnoreAll(List<DnaRecord> records) {
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, records, records.size(), (ps, record) -> {
+            LocalDateTime createdAt = record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now();
+            ps.setBytes(1, record.getDnaHash());
+            ps.setBytes(2, record.getDnaFingerprint());
+            ps.setBoolean(3, record.isMutant());
+            ps.setTimestamp(4, Timestamp.valueOf(createdAt));
+        });
+
+        // Un solo sub-batch: cada posición indica si el registro de esa posición se insertó
+        List<DnaRecord> inserted = new ArrayList<>(records.size());
+        int index = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                if (count > 0) {
+                    inserted.add(records.get(index));
+                }
+                index++;
+            }
+        }
+        return inserted;
+    }
+}
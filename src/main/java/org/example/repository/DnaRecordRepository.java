@@ -1,25 +1,38 @@
 package org.example.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.example.entity.DnaRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repositorio JPA para acceso a datos de ADN.
  */
 @Repository
-public interface DnaRecordRepository extends JpaRepository<DnaRecord, Long> {
+public interface DnaRecordRepository extends JpaRepository<DnaRecord, Long>, DnaRecordBatchRepository {
 
     /**
      * Busca un registro de ADN por su hash SHA-256.
      * Permite evitar duplicados y búsqueda O(1).
      *
-     * @param dnaHash Hash SHA-256 del ADN
+     * @param dnaHash Hash SHA-256 binario del ADN (32 bytes)
      * @return Optional con el registro si existe
      */
-    Optional<DnaRecord> findByDnaHash(String dnaHash);
+    Optional<DnaRecord> findByDnaHash(byte[] dnaHash);
+
+    /**
+     * Busca en una sola consulta (IN) los registros de varios hashes.
+     *
+     * @param dnaHashes hashes binarios a buscar
+     * @return registros existentes (a lo sumo uno por hash)
+     */
+    List<DnaRecord> findByDnaHashIn(Collection<byte[]> dnaHashes);
 
     /**
      * Cuenta la cantidad de registros de mutantes o humanos.
@@ -28,4 +41,28 @@ public interface DnaRecordRepository extends JpaRepository<DnaRecord, Long> {
      * @return cantidad de registros
      */
     long countByIsMutant(boolean isMutant);
+
+    /**
+     * Cuenta por hora y veredicto los registros creados antes de {@code before},
+     * para reconstruir los rollups de estadísticas.
+     *
+     * @return filas [fecha (LocalDate), hora (Integer), isMutant (Boolean), cantidad (Long)]
+     */
+    @Query("select cast(r.createdAt as LocalDate), extract(hour from r.createdAt), r.isMutant, count(r) " +
+           "from DnaRecord r where r.createdAt < :before " +
+           "group by cast(r.createdAt as LocalDate), extract(hour from r.createdAt), r.isMutant")
+    List<Object[]> countByHourBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Cuenta por minuto y veredicto los registros creados en [since, before)
+     * (usa el índice de created_at).
+     *
+     * @return filas [fecha (LocalDate), hora (Integer), minuto (Integer), isMutant (Boolean), cantidad (Long)]
+     */
+    @Query("select cast(r.createdAt as LocalDate), extract(hour from r.createdAt), " +
+           "extract(minute from r.createdAt), r.isMutant, count(r) " +
+           "from DnaRecord r where r.createdAt >= :since and r.createdAt < :before " +
+           "group by cast(r.createdAt as LocalDate), extract(hour from r.createdAt), " +
+           "extract(minute from r.createdAt), r.isMutant")
+    List<Object[]> countByMinuteBetween(@Param("since") LocalDateTime since, @Param("before") LocalDateTime before);
 }
@@ -0,0 +1,188 @@
+package org.example.service;
+
+import org.example.validator.DnaAlphabet;
+
+/**
+ * Motor de detección sobre una matriz empaquetada a 2 bits por base.
+ * Cada fila se guarda en un long[] con 32 bases por palabra (A=00, C=01, G=10, T=11),
+ * lo que reduce ~8x la memoria escaneada frente a char[][] y permite comparar
+ * 32 celdas por instrucción en las cuatro direcciones.
+ */
+public class BitPackedDetectionEngine implements DetectionEngine {
+
+    private static final int SEQUENCE_LENGTH = 4;
+    private static final int BASES_PER_WORD = 32;
+
+    /**
+     * Bit bajo de cada carril de 2 bits.
+     */
+    private static final long LOW_BITS = 0x5555555555555555L;
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        long[] packed = encode(dna);
+        if (packed == null) {
+            return false;
+        }
+        return scan(packed, dna.length);
+    }
+
+    /**
+     * Escanea un ADN ya empaquetado (y por lo tanto ya validado).
+     */
+    public boolean isMutantPacked(PackedDna dna) {
+        return scan(dna.words(), dna.size());
+    }
+
+    private boolean scan(long[] packed, int n) {
+        final int words = wordsPerRow(n);
+
+        // Máscaras de columnas de inicio válidas para cada dirección
+        long[] forwardMask = laneMasks(words, 0, n - SEQUENCE_LENGTH + 1);
+        long[] verticalMask = laneMasks(words, 0, n);
+        long[] backwardMask = laneMasks(words, SEQUENCE_LENGTH - 1, n);
+
+        int sequenceCount = 0;
+
+        for (int row = 0; row < n; row++) {
+            final int r0 = row * words;
+
+            // Horizontal: la fila contra sí misma desplazada 1, 2 y 3 columnas
+            for (int w = 0; w < words; w++) {
+                long base = packed[r0 + w];
+                long run = equalLanes(base, shiftForward(packed, r0, words, w, 1))
+                        & equalLanes(base, shiftForward(packed, r0, words, w, 2))
+                        & equalLanes(base, shiftForward(packed, r0, words, w, 3))
+                        & forwardMask[w];
+                sequenceCount += Long.bitCount(run);
+            }
+            if (sequenceCount > 1) {
+                return true;
+            }
+
+            if (row > n - SEQUENCE_LENGTH) {
+                continue;
+            }
+
+            final int r1 = r0 + words;
+            final int r2 = r1 + words;
+            final int r3 = r2 + words;
+
+            for (int w = 0; w < words; w++) {
+                long base = packed[r0 + w];
+
+                // Vertical (|)
+                long vertical = equalLanes(base, packed[r1 + w])
+                        & equalLanes(base, packed[r2 + w])
+                        & equalLanes(base, packed[r3 + w])
+                        & verticalMask[w];
+
+                // Diagonal descendente (\)
+                long diagonalDown = equalLanes(base, shiftForward(packed, r1, words, w, 1))
+                        & equalLanes(base, shiftForward(packed, r2, words, w, 2))
+                        & equalLanes(base, shiftForward(packed, r3, words, w, 3))
+                        & forwardMask[w];
+
+                // Diagonal ascendente (/)
+                long diagonalUp = equalLanes(base, shiftBackward(packed, r1, w, 1))
+                        & equalLanes(base, shiftBackward(packed, r2, w, 2))
+                        & equalLanes(base, shiftBackward(packed, r3, w, 3))
+                        & backwardMask[w];
+
+                sequenceCount += Long.bitCount(vertical)
+                        + Long.bitCount(diagonalDown)
+                        + Long.bitCount(diagonalUp);
+            }
+            if (sequenceCount > 1) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Valida y empaqueta el ADN en un único recorrido.
+     *
+     * @return filas empaquetadas de forma contigua, o null si el ADN es inválido
+     */
+    static long[] encode(String[] dna) {
+        if (dna == null || dna.length == 0) {
+            return null;
+        }
+
+        final int n = dna.length;
+        final int words = wordsPerRow(n);
+        long[] packed = new long[n * words];
+
+        for (int row = 0; row < n; row++) {
+            String sequence = dna[row];
+            if (sequence == null || sequence.length() != n) {
+                return null;
+            }
+
+            final int offset = row * words;
+            for (int col = 0; col < n; col++) {
+                long code = DnaAlphabet.code(sequence.charAt(col));
+                if (code == DnaAlphabet.INVALID) {
+                    return null;
+                }
+                packed[offset + col / BASES_PER_WORD] |= code << (2 * (col % BASES_PER_WORD));
+            }
+        }
+
+        return packed;
+    }
+
+    static int wordsPerRow(int n) {
+        return (n + BASES_PER_WORD - 1) / BASES_PER_WORD;
+    }
+
+    /**
+     * Devuelve el bit bajo encendido en cada carril donde ambas palabras tienen la misma base.
+     */
+    private static long equalLanes(long a, long b) {
+        long diff = a ^ b;
+        return ~(diff | (diff >>> 1)) & LOW_BITS;
+    }
+
+    /**
+     * Palabra {@code w} de la fila con la columna {@code col + k} alineada en la posición {@code col}.
+     */
+    private static long shiftForward(long[] packed, int rowOffset, int words, int w, int k) {
+        long value = packed[rowOffset + w] >>> (2 * k);
+        if (w + 1 < words) {
+            value |= packed[rowOffset + w + 1] << (64 - 2 * k);
+        }
+        return value;
+    }
+
+    /**
+     * Palabra {@code w} de la fila con la columna {@code col - k} alineada en la posición {@code col}.
+     */
+    private static long shiftBackward(long[] packed, int rowOffset, int w, int k) {
+        long value = packed[rowOffset + w] << (2 * k);
+        if (w > 0) {
+            value |= packed[rowOffset + w - 1] >>> (64 - 2 * k);
+        }
+        return value;
+    }
+
+    /**
+     * Máscara de carriles para las columnas en el rango [from, to) de cada palabra.
+     */
+    private static long[] laneMasks(int words, int from, int to) {
+        long[] masks = new long[words];
+        for (int w = 0; w < words; w++) {
+            int lo = Math.max(from - w * BASES_PER_WORD, 0);
+            int hi = Math.min(to - w * BASES_PER_WORD, BASES_PER_WORD);
+            if (hi <= lo) {
+                continue;
+            }
+            long upper = hi == BASES_PER_WORD ? -1L : (1L << (2 * hi)) - 1;
+            long lower = (1L << (2 * lo)) - 1;
+            masks[w] = upper & ~lower & LOW_BITS;
+        }
+        return masks;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.service;
+
+/**
+ * Estrategia de escaneo de una matriz de ADN.
+ * Todas las implementaciones deben dar exactamente la misma respuesta que el
+ * escaneo escalar de {@link MutantDetector}, incluyendo el rechazo de ADN inválido.
+ */
+@FunctionalInterface
+public interface DetectionEngine {
+
+    /**
+     * Determina si un ADN corresponde a un mutante.
+     *
+     * @param dna Array de Strings que representa la matriz de ADN NxN
+     * @return true si es mutante, false si es humano o el ADN es inválido
+     */
+    boolean isMutant(String[] dna);
+}
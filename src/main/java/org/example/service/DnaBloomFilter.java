@@ -0,0 +1,307 @@
+package org.example.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.repository.DnaRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filtro de Bloom con todos los {@code dna_hash} conocidos, delante de
+ * {@code DnaRecordRepository.findByDnaHash}. Una respuesta negativa es segura
+ * (el hash no está en la base de datos) y permite ir directo a la detección y a
+ * la inserción; una positiva puede ser un falso positivo y se confirma con la
+ * búsqueda. Si otra instancia insertó el hash, el insert lo ignora y el
+ * veredicto es el mismo: un falso negativo solo cuesta una detección.
+ *
+ * <p>Se construye una vez al iniciar recorriendo los hashes de {@code dna_records}
+ * y se actualiza con cada inserción. Mientras no está construido (la carga puede
+ * correr en segundo plano, ver {@link StartupLoader}) responde siempre
+ * "puede estar", y los hashes registrados se guardan en una cola que se vuelca
+ * al arreglo después de publicarlo: una inserción todavía sin confirmar, que el
+ * recorrido no ve, no se pierde. Los bits son un {@link AtomicLongArray}, sin locks.
+ *
+ * <p>Métricas: {@code dna.bloom.memory} (bytes), {@code dna.bloom.fpp}
+ * (probabilidad de falso positivo estimada con la ocupación actual),
+ * {@code dna.bloom.checks{result=negative|positive}} y
+ * {@code dna.bloom.false.positives} (positivos que la búsqueda no encontró).
+ */
+@Slf4j
+@Component
+public class DnaBloomFilter {
+
+    private final DnaRecordRepository dnaRecordRepository;
+    private final StartupLoader startupLoader;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Counter negativeCounter;
+    private final Counter positiveCounter;
+    private final Counter falsePositiveCounter;
+
+    /**
+     * null hasta que termina la construcción (o si está deshabilitado).
+     */
+    private volatile Bits bits;
+
+    /**
+     * Hashes registrados desde la creación hasta que se vuelcan al arreglo
+     * construido; null después (o si está deshabilitado).
+     */
+    private volatile Queue<DnaHash> pendingPuts;
+
+    public DnaBloomFilter(DnaRecordRepository dnaRecordRepository,
+                          MeterRegistry meterRegistry,
+                          StartupLoader startupLoader,
+                          @Value("${mutant.bloom.enabled:true}") boolean enabled,
+                          @Value("${mutant.bloom.expected-insertions:1000000}") long expectedInsertions,
+                          @Value("${mutant.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Configuración inválida del filtro de Bloom: expected-insertions="
+                    + expectedInsertions + ", false-positive-rate=" + falsePositiveRate);
+        }
+        this.dnaRecordRepository = dnaRecordRepository;
+        this.startupLoader = startupLoader;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.pendingPuts = enabled ? new ConcurrentLinkedQueue<>() : null;
+
+        this.negativeCounter = checkCounter(meterRegistry, "negative");
+        this.positiveCounter = checkCounter(meterRegistry, "positive");
+        this.falsePositiveCounter = Counter.builder("dna.bloom.false.positives")
+                .description("Positivos del filtro de Bloom que la búsqueda no encontró")
+                .register(meterRegistry);
+        Gauge.builder("dna.bloom.memory", this, DnaBloomFilter::memoryBytes)
+                .description("Memoria del arreglo de bits del filtro de Bloom")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("dna.bloom.fpp", this, DnaBloomFilter::estimatedFalsePositiveRate)
+                .description("Probabilidad de falso positivo estimada con la ocupación actual")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Construye el filtro al iniciar (en línea o en segundo plano, ver {@link StartupLoader}).
+     */
+    @PostConstruct
+    public void startLoading() {
+        if (enabled) {
+            startupLoader.run("bloom", this::load);
+        }
+    }
+
+    /**
+     * Construye el filtro con los hashes existentes. Se dimensiona para el mayor
+     * entre {@code expected-insertions} y el doble de los registros actuales.
+     * Los hashes registrados antes o durante la carga también se agregan; una
+     * vez construido, las llamadas siguientes no hacen nada.
+     */
+    public void load() {
+        Queue<DnaHash> pending = pendingPuts;
+        if (pending == null) {
+            return;
+        }
+        long existing = dnaRecordRepository.count();
+        Bits building = new Bits(Math.max(expectedInsertions, existing * 2), falsePositiveRate);
+        dnaRecordRepository.forEachDnaHash(hash -> building.put(DnaHash.of(hash)));
+
+        // Primero se publica el arreglo y después se vuelca la cola: un put que encoló
+        // antes del último vaciado entra por el vaciado, y uno posterior lee el arreglo ya publicado
+        this.bits = building;
+        drain(pending, building);
+        this.pendingPuts = null;
+        drain(pending, building);
+        log.info("Filtro de Bloom cargado: {} hashes, {} KiB, {} funciones hash",
+                existing, building.memoryBytes() / 1024, building.hashFunctions());
+    }
+
+    /**
+     * @return false si el hash seguro no está en la base de datos; true si puede estar
+     *         (o si el filtro está deshabilitado o todavía no se construyó)
+     */
+    public boolean mightContain(DnaHash dnaHash) {
+        Bits current = bits;
+        if (current == null) {
+            return true;
+        }
+        boolean result = current.mightContain(dnaHash);
+        (result ? positiveCounter : negativeCounter).increment();
+        return result;
+    }
+
+    /**
+     * Registra un hash insertado (o que se sabe que existe en la base de datos).
+     */
+    public void put(DnaHash dnaHash) {
+        // La cola antes que el arreglo: load() publica bits antes de soltar la cola
+        Queue<DnaHash> pending = pendingPuts;
+        if (pending != null) {
+            pending.add(dnaHash);
+        }
+        Bits current = bits;
+        if (current != null) {
+            current.put(dnaHash);
+        }
+    }
+
+    /**
+     * Registra que un positivo de {@link #mightContain} no estaba en la base de datos.
+     */
+    public void recordFalsePositive() {
+        recordFalsePositives(1);
+    }
+
+    /**
+     * Registra {@code count} positivos que la búsqueda no encontró (consulta por lote).
+     */
+    public void recordFalsePositives(long count) {
+        if (bits != null && count > 0) {
+            falsePositiveCounter.increment(count);
+        }
+    }
+
+    /**
+     * @return true si el filtro está construido y responde consultas
+     */
+    public boolean isReady() {
+        return bits != null;
+    }
+
+    long memoryBytes() {
+        Bits current = bits;
+        return current == null ? 0 : current.memoryBytes();
+    }
+
+    /**
+     * (bits en 1 / bits totales) ^ funciones hash.
+     */
+    double estimatedFalsePositiveRate() {
+        Bits current = bits;
+        return current == null ? 0.0 : current.estimatedFalsePositiveRate();
+    }
+
+    private static void drain(Queue<DnaHash> pending, Bits target) {
+        for (DnaHash dnaHash = pending.poll(); dnaHash != null; dnaHash = pending.poll()) {
+            target.put(dnaHash);
+        }
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("dna.bloom.checks")
+                .description("Consultas al filtro de Bloom antes de la búsqueda por hash")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Arreglo de bits con k posiciones por hash por doble hashing (h1 + i*h2),
+     * con h1 y h2 derivados de los primeros 16 bytes del hash de ADN.
+     */
+    static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashFunctions;
+        private final LongAdder bitsSet = new LongAdder();
+
+        Bits(long expectedInsertions, double falsePositiveRate) {
+            // m = -n ln p / (ln 2)^2, k = m / n ln 2
+            long optimalBits = (long) Math.ceil(
+                    -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = (long) wordCount * 64;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        }
+
+        boolean mightContain(DnaHash dnaHash) {
+            byte[] hash = dnaHash.bytes();
+            long h1 = h1(hash);
+            long h2 = h2(hash);
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(DnaHash dnaHash) {
+            byte[] hash = dnaHash.bytes();
+            long h1 = h1(hash);
+            long h2 = h2(hash);
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0) {
+                    long witness = words.compareAndExchange(index, word, word | mask);
+                    if (witness == word) {
+                        bitsSet.increment();
+                        break;
+                    }
+                    word = witness;
+                }
+            }
+        }
+
+        long memoryBytes() {
+            return bitCount / 8;
+        }
+
+        int hashFunctions() {
+            return hashFunctions;
+        }
+
+        double estimatedFalsePositiveRate() {
+            return Math.pow((double) bitsSet.sum() / bitCount, hashFunctions);
+        }
+
+        private static long h1(byte[] hash) {
+            return mix(low(hash) ^ mix(high(hash)));
+        }
+
+        /**
+         * Impar, para que las k posiciones no se repitan.
+         */
+        private static long h2(byte[] hash) {
+            return mix((high(hash) + 0x9e3779b97f4a7c15L) ^ mix(low(hash))) | 1;
+        }
+
+        private static long low(byte[] hash) {
+            return hash.length >= 8 ? ByteBuffer.wrap(hash).getLong(0) : Arrays.hashCode(hash);
+        }
+
+        private static long high(byte[] hash) {
+            return hash.length >= 16 ? ByteBuffer.wrap(hash).getLong(8) : hash.length;
+        }
+
+        /**
+         * fmix64 de Murmur3: los hashes ya son uniformes, pero así los bits no
+         * dependen de que lo sean.
+         */
+        private static long mix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
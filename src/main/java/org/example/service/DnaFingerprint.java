@@ -0,0 +1,79 @@
+package org.example.service;
+
+import java.nio.charset.StandardCharsets;
+
+import org.example.validator.DnaAlphabet;
+
+/**
+ * Huella compacta y exacta de un ADN: N seguido de las bases empaquetadas a
+ * 2 bits (4 por byte). Ocupa una cuarta parte del texto original y permite
+ * verificar que un hit por hash no es una colisión.
+ */
+public final class DnaFingerprint {
+
+    private static final byte PACKED_FORMAT = 0;
+    private static final byte RAW_FORMAT = 1;
+
+    private DnaFingerprint() {
+    }
+
+    /**
+     * @param dna Array de Strings con la secuencia de ADN
+     * @return huella del ADN; para ADN con caracteres inválidos, sus bytes UTF-8
+     */
+    public static byte[] of(String[] dna) {
+        final int n = dna.length;
+        byte[] fingerprint = header(n);
+
+        int position = 0;
+        for (String sequence : dna) {
+            if (sequence == null || sequence.length() != n) {
+                return raw(dna);
+            }
+            for (int col = 0; col < n; col++, position++) {
+                byte code = DnaAlphabet.code(sequence.charAt(col));
+                if (code == DnaAlphabet.INVALID) {
+                    return raw(dna);
+                }
+                fingerprint[5 + (position >>> 2)] |= (byte) (code << (2 * (position & 3)));
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @param dna matriz validada y empaquetada a 2 bits por base
+     * @return la misma huella que {@link #of(String[])} para las filas equivalentes
+     */
+    public static byte[] of(PackedDna dna) {
+        final int n = dna.size();
+        byte[] fingerprint = header(n);
+
+        int position = 0;
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++, position++) {
+                fingerprint[5 + (position >>> 2)] |= (byte) (dna.code(row, col) << (2 * (position & 3)));
+            }
+        }
+        return fingerprint;
+    }
+
+    private static byte[] header(int n) {
+        final long bases = (long) n * n;
+        byte[] fingerprint = new byte[5 + (int) ((bases + 3) / 4)];
+        fingerprint[0] = PACKED_FORMAT;
+        fingerprint[1] = (byte) (n >>> 24);
+        fingerprint[2] = (byte) (n >>> 16);
+        fingerprint[3] = (byte) (n >>> 8);
+        fingerprint[4] = (byte) n;
+        return fingerprint;
+    }
+
+    private static byte[] raw(String[] dna) {
+        byte[] text = String.join("\n", dna).getBytes(StandardCharsets.UTF_8);
+        byte[] fingerprint = new byte[text.length + 1];
+        fingerprint[0] = RAW_FORMAT;
+        System.arraycopy(text, 0, fingerprint, 1, text.length);
+        return fingerprint;
+    }
+}
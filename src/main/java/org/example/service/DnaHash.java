@@ -0,0 +1,57 @@
+package org.example.service;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Hash binario de un ADN, usado como clave de deduplicación.
+ * Envuelve el digest tal cual se guarda en la columna {@code dna_hash BINARY(32)},
+ * con equals/hashCode por contenido para poder usarlo como clave de mapas y cachés.
+ */
+public final class DnaHash {
+
+    private final byte[] bytes;
+    private final int hashCode;
+
+    private DnaHash(byte[] bytes) {
+        this.bytes = bytes;
+        this.hashCode = Arrays.hashCode(bytes);
+    }
+
+    /**
+     * Crea el hash sin copiar el array; quien llama no debe modificarlo después.
+     */
+    public static DnaHash of(byte[] bytes) {
+        return new DnaHash(bytes);
+    }
+
+    /**
+     * @return bytes del digest (no copiados; no modificar)
+     */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof DnaHash that
+                && hashCode == that.hashCode
+                && Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Representación hexadecimal, solo para logs y diagnóstico.
+     */
+    @Override
+    public String toString() {
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.service;
+
+/**
+ * Estrategia de hash para la deduplicación de ADN.
+ * La implementación activa se elige con {@code mutant.hash.algorithm}.
+ *
+ * <p>Cambiar de algoritmo sobre una base con registros existentes invalida la
+ * deduplicación de esos registros, por lo que debe decidirse antes de acumular datos.
+ */
+public interface DnaHasher {
+
+    /**
+     * Calcula el hash recorriendo las filas en orden, sin concatenarlas.
+     *
+     * @param dna Array de Strings con la secuencia de ADN
+     * @return hash binario del ADN
+     */
+    DnaHash hash(String[] dna);
+
+    /**
+     * Calcula el mismo hash que {@link #hash(String[])} sobre un ADN empaquetado.
+     * Las implementaciones lo redefinen para no reconstruir las filas.
+     *
+     * @param dna matriz validada y empaquetada a 2 bits por base
+     * @return hash binario del ADN
+     */
+    default DnaHash hash(PackedDna dna) {
+        return hash(dna.toRows());
+    }
+
+    /**
+     * @return true si un hit por hash debe verificarse contra la huella
+     *         compacta ({@link DnaFingerprint}) guardada con el registro
+     */
+    boolean verifiesCollisions();
+}
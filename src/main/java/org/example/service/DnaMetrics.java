@@ -0,0 +1,169 @@
+package org.example.service;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Métricas del camino de análisis de {@link MutantService}: hash, búsqueda de
+ * deduplicación, detección y persistencia. Los timers se crean una sola vez, de
+ * modo que registrar una medición no busca el meter por nombre y tags.
+ *
+ * <p>La latencia de punta a punta (incluido el commit) es la de Spring MVC,
+ * {@code http.server.requests{uri=/mutant}}.
+ */
+@Component
+public class DnaMetrics {
+
+    /**
+     * Límites superiores (inclusivos) de los buckets de tamaño N de la matriz.
+     */
+    private static final int[] SIZE_BUCKET_LIMITS = {10, 100, 1000};
+    private static final String[] SIZE_BUCKET_TAGS = {"4-10", "11-100", "101-1000", "1001+"};
+
+    private final Timer hashTimer;
+    private final Timer lookupTimer;
+    private final Timer batchLookupTimer;
+    private final Timer syncPersistTimer;
+    private final Timer writeBehindPersistTimer;
+    private final Counter cacheHitCounter;
+    private final Counter databaseHitCounter;
+    private final Map<SingleFlightOutcome, Counter> singleFlightCounters = new EnumMap<>(SingleFlightOutcome.class);
+
+    /**
+     * [bucket de tamaño][0 = humano, 1 = mutante]
+     */
+    private final Timer[][] detectionTimers = new Timer[SIZE_BUCKET_TAGS.length][2];
+
+    public DnaMetrics(MeterRegistry meterRegistry) {
+        this.hashTimer = Timer.builder("dna.hash")
+                .description("Cálculo del hash de deduplicación")
+                .register(meterRegistry);
+        this.lookupTimer = lookupTimer(meterRegistry, "single");
+        this.batchLookupTimer = lookupTimer(meterRegistry, "batch");
+        this.syncPersistTimer = persistTimer(meterRegistry, "sync");
+        this.writeBehindPersistTimer = persistTimer(meterRegistry, "write-behind");
+        this.cacheHitCounter = dedupHitCounter(meterRegistry, "cache");
+        this.databaseHitCounter = dedupHitCounter(meterRegistry, "database");
+        for (SingleFlightOutcome outcome : SingleFlightOutcome.values()) {
+            singleFlightCounters.put(outcome, Counter.builder("dna.singleflight.waits")
+                    .description("Análisis que encontraron otro del mismo ADN en curso, por resultado de la espera")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+
+        for (int bucket = 0; bucket < SIZE_BUCKET_TAGS.length; bucket++) {
+            for (int verdict = 0; verdict < 2; verdict++) {
+                detectionTimers[bucket][verdict] = Timer.builder("dna.detection")
+                        .description("MutantDetector.isMutant por tamaño de matriz y veredicto")
+                        .tag("size", SIZE_BUCKET_TAGS[bucket])
+                        .tag("verdict", verdict == 1 ? "mutant" : "human")
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * @return timer del cálculo de {@link DnaHasher#hash(String[])}
+     */
+    public Timer hashTimer() {
+        return hashTimer;
+    }
+
+    /**
+     * @param batch true para la consulta IN de los lotes, false para findByDnaHash
+     * @return timer de la búsqueda de deduplicación en la base de datos
+     */
+    public Timer lookupTimer(boolean batch) {
+        return batch ? batchLookupTimer : lookupTimer;
+    }
+
+    /**
+     * @param writeBehind true si el registro solo se encola
+     * @return timer de la persistencia (save hasta el commit, o el encolado)
+     */
+    public Timer persistTimer(boolean writeBehind) {
+        return writeBehind ? writeBehindPersistTimer : syncPersistTimer;
+    }
+
+    /**
+     * Registra la duración de una detección.
+     *
+     * @param n        tamaño de la matriz
+     * @param isMutant veredicto
+     * @param nanos    duración en nanosegundos
+     */
+    public void recordDetection(int n, boolean isMutant, long nanos) {
+        detectionTimers[sizeBucket(n)][isMutant ? 1 : 0].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registra un ADN ya analizado que se resolvió sin el detector.
+     *
+     * @param fromCache true si el veredicto salió de la caché, false si de la base de datos
+     */
+    public void recordDedupHit(boolean fromCache) {
+        (fromCache ? cacheHitCounter : databaseHitCounter).increment();
+    }
+
+    /**
+     * Registra un análisis que encontró otro del mismo ADN en curso (ver {@link SingleFlight}).
+     */
+    public void recordSingleFlight(SingleFlightOutcome outcome) {
+        singleFlightCounters.get(outcome).increment();
+    }
+
+    static String sizeBucketTag(int n) {
+        return SIZE_BUCKET_TAGS[sizeBucket(n)];
+    }
+
+    private static int sizeBucket(int n) {
+        int bucket = 0;
+        while (bucket < SIZE_BUCKET_LIMITS.length && n > SIZE_BUCKET_LIMITS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String query) {
+        return Timer.builder("dna.lookup")
+                .description("Búsqueda de deduplicación por hash en la base de datos")
+                .tag("query", query)
+                .register(meterRegistry);
+    }
+
+    private static Timer persistTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("dna.persist")
+                .description("Persistencia de un ADN nuevo")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    private static Counter dedupHitCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("dna.dedup.hits")
+                .description("ADN ya analizados resueltos sin el detector")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resultado de esperar un análisis en curso.
+     */
+    public enum SingleFlightOutcome {
+        /** Se usó el veredicto del análisis en curso. */
+        SHARED,
+        /** Se venció el timeout y se analizó por cuenta propia. */
+        TIMEOUT,
+        /** El análisis en curso falló y se propagó su error. */
+        FAILED,
+        /** Se interrumpió la espera: no se analiza y se informa el error. */
+        INTERRUPTED
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.example.entity.DnaRecord;
+import org.example.repository.DnaRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persistencia write-behind de {@link DnaRecord}.
+ * El veredicto se devuelve sin esperar a la base de datos: los registros se encolan
+ * en una cola acotada que un hilo de fondo vacía en batches JDBC con insert-ignore
+ * sobre dna_hash.
+ *
+ * <p>Si la cola está llena más allá de {@code offer-timeout-ms}, el hilo que llama
+ * escribe el registro de forma síncrona (backpressure). Al apagar la aplicación se
+ * vacía la cola antes de cerrar el DataSource.
+ */
+@Slf4j
+@Component
+public class DnaRecordWriter implements SmartLifecycle {
+
+    private static final String THREAD_NAME = "dna-write-behind";
+
+    private final DnaRecordRepository dnaRecordRepository;
+    private final StatsService statsService;
+    private final VerdictCache verdictCache;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final BlockingQueue<DnaRecord> queue;
+
+    private final Timer flushTimer;
+    private final Counter callerRunsCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public DnaRecordWriter(DnaRecordRepository dnaRecordRepository,
+                           StatsService statsService,
+                           VerdictCache verdictCache,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${mutant.persistence.write-behind.enabled:false}") boolean enabled,
+                           @Value("${mutant.persistence.write-behind.queue-capacity:10000}") int queueCapacity,
+                           @Value("${mutant.persistence.write-behind.batch-size:500}") int batchSize,
+                           @Value("${mutant.persistence.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+                           @Value("${mutant.persistence.write-behind.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.dnaRecordRepository = dnaRecordRepository;
+        this.statsService = statsService;
+        this.verdictCache = verdictCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("dna.writebehind.queue.depth", queue, BlockingQueue::size)
+                .description("Registros pendientes de persistir")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("dna.writebehind.flush")
+                .description("Latencia de cada batch persistido")
+                .register(meterRegistry);
+        this.callerRunsCounter = Counter.builder("dna.writebehind.caller.runs")
+                .description("Registros escritos de forma síncrona por cola llena")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true si el modo write-behind está habilitado
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Encola un registro para persistirlo en segundo plano.
+     * Si la cola sigue llena tras el timeout, lo persiste en el hilo actual.
+     *
+     * @param record registro a persistir
+     */
+    public void enqueue(DnaRecord record) {
+        if (record.getCreatedAt() == null) {
+            record.setCreatedAt(LocalDateTime.now());
+        }
+
+        try {
+            if (running && queue.offer(record, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        callerRunsCounter.increment();
+        flush(List.of(record));
+    }
+
+    /**
+     * @return cantidad de registros pendientes en la cola
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::drainLoop, THREAD_NAME);
+        writerThread.start();
+        log.info("Persistencia write-behind habilitada (batch={}, flush={}ms)", batchSize, flushIntervalMs);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Lo que haya quedado (incluidos los encolados durante el apagado)
+        flushRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Se detiene después del servidor web para no perder registros de requests en curso.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<DnaRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                DnaRecord first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<DnaRecord> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<DnaRecord> batch) {
+        try {
+            List<DnaRecord> inserted = flushTimer.record(() -> transactionTemplate.execute(
+                    status -> dnaRecordRepository.insertIgnoreAll(batch)));
+            // Solo los hashes nuevos cuentan para /stats
+            if (inserted != null) {
+                inserted.forEach(record -> statsService.recordNewDna(record.isMutant()));
+            }
+        } catch (RuntimeException e) {
+            // Fuera de la caché, los registros perdidos se vuelven a analizar y persistir
+            // en el próximo request (el filtro de Bloom solo da un falso positivo)
+            batch.forEach(record -> verdictCache.invalidate(DnaHash.of(record.getDnaHash())));
+            log.error("Error persistiendo batch de {} registros de ADN", batch.size(), e);
+        }
+    }
+}
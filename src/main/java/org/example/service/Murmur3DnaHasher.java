@@ -0,0 +1,240 @@
+package org.example.service;
+
+import org.example.validator.DnaAlphabet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hash no criptográfico de 128 bits (MurmurHash3 x64_128) sobre el ADN empaquetado
+ * a 2 bits por base. Las filas se empaquetan en palabras de 64 bits a medida que se
+ * recorren y cada par de palabras se mezcla como un bloque de 16 bytes, sin copias
+ * intermedias. El mensaje equivale a los bytes little-endian del empaquetado
+ * (N² / 4 bytes, redondeado hacia arriba). La longitud no alcanza para fijar N
+ * (1x1 y 2x2 ocupan 1 byte): N se mezcla en la semilla.
+ * Los 16 bytes del hash se completan con ceros hasta el ancho de {@code dna_hash BINARY(32)}.
+ *
+ * <p>Al no ser criptográfico conviene habilitar {@code mutant.hash.collision-check}
+ * si las entradas pueden ser adversariales.
+ */
+@Component
+@ConditionalOnProperty(name = "mutant.hash.algorithm", havingValue = "murmur3")
+public class Murmur3DnaHasher implements DnaHasher {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final long SEED = 0x5eed_d4a5L;
+    private static final long RAW_SEED = ~SEED;
+    private static final int BASES_PER_WORD = 32;
+    private static final int STORED_LENGTH = 32;
+
+    private final boolean collisionCheck;
+
+    public Murmur3DnaHasher(@Value("${mutant.hash.collision-check:false}") boolean collisionCheck) {
+        this.collisionCheck = collisionCheck;
+    }
+
+    @Override
+    public DnaHash hash(String[] dna) {
+        final int n = dna.length;
+        Packer packer = new Packer(n);
+
+        for (String sequence : dna) {
+            if (sequence == null || sequence.length() != n) {
+                return hashRaw(dna);
+            }
+            for (int col = 0; col < n; col++) {
+                long code = DnaAlphabet.code(sequence.charAt(col));
+                if (code == DnaAlphabet.INVALID) {
+                    return hashRaw(dna);
+                }
+                packer.add(code);
+            }
+        }
+        return packer.finish();
+    }
+
+    @Override
+    public DnaHash hash(PackedDna dna) {
+        final int n = dna.size();
+        Packer packer = new Packer(n);
+
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                packer.add(dna.code(row, col));
+            }
+        }
+        return packer.finish();
+    }
+
+    @Override
+    public boolean verifiesCollisions() {
+        return collisionCheck;
+    }
+
+    /**
+     * Semilla del formato empaquetado para matrices de N x N.
+     */
+    static long packedSeed(int n) {
+        return SEED ^ ((long) n << 32);
+    }
+
+    /**
+     * ADN con caracteres inválidos: MurmurHash3 sobre los caracteres UTF-16,
+     * con otra semilla para no coincidir con el formato empaquetado.
+     */
+    private static DnaHash hashRaw(String[] dna) {
+        State state = new State(RAW_SEED);
+        long block0 = 0;
+        long block1 = 0;
+        int chars = 0;
+        long length = 0;
+
+        for (String sequence : dna) {
+            String row = sequence != null ? sequence : "null";
+            for (int i = 0; i <= row.length(); i++) {
+                // Separador de filas para que la forma de la matriz cuente
+                long c = i < row.length() ? row.charAt(i) : '\n';
+                if (chars < 4) {
+                    block0 |= c << (16 * chars);
+                } else {
+                    block1 |= c << (16 * (chars - 4));
+                }
+                length += 2;
+                if (++chars == 8) {
+                    state.mixBlock(block0, block1);
+                    block0 = 0;
+                    block1 = 0;
+                    chars = 0;
+                }
+            }
+        }
+        return state.finish(block0, block1, chars * 2, length);
+    }
+
+    /**
+     * Empaqueta las bases en palabras de 64 bits a medida que llegan y mezcla cada
+     * par de palabras como un bloque de 16 bytes, sin copias intermedias.
+     */
+    private static final class Packer {
+
+        private final State state;
+        private final long byteLength;
+        private final long fullBlocks;
+
+        private long word;
+        private long wordIndex;
+        private int basesInWord;
+        private long pending;
+
+        Packer(int n) {
+            final long bases = (long) n * n;
+            this.state = new State(packedSeed(n));
+            this.byteLength = (bases + 3) / 4;
+            this.fullBlocks = byteLength / 16;
+        }
+
+        void add(long code) {
+            word |= code << (2 * basesInWord);
+            if (++basesInWord == BASES_PER_WORD) {
+                // Palabras pares: primera mitad del bloque; impares: se mezcla el bloque
+                if ((wordIndex & 1) == 0) {
+                    pending = word;
+                } else if (wordIndex / 2 < fullBlocks) {
+                    state.mixBlock(pending, word);
+                }
+                wordIndex++;
+                word = 0;
+                basesInWord = 0;
+            }
+        }
+
+        DnaHash finish() {
+            // Cola: la palabra incompleta (si la hay) completa el último bloque parcial
+            long k1 = 0;
+            long k2 = 0;
+            int tail = (int) (byteLength % 16);
+            if (tail > 0) {
+                if ((wordIndex & 1) == 0) {
+                    k1 = word;
+                } else {
+                    k1 = pending;
+                    k2 = word;
+                }
+            }
+            return state.finish(k1, k2, tail, byteLength);
+        }
+    }
+
+    /**
+     * Estado de MurmurHash3 x64_128.
+     */
+    private static final class State {
+
+        private long h1;
+        private long h2;
+
+        State(long seed) {
+            this.h1 = seed;
+            this.h2 = seed;
+        }
+
+        void mixBlock(long k1, long k2) {
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        DnaHash finish(long k1, long k2, int tail, long length) {
+            if (tail > 8) {
+                h2 ^= mixK2(k2);
+            }
+            if (tail > 0) {
+                h1 ^= mixK1(k1);
+            }
+
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix64(h1);
+            h2 = fmix64(h2);
+            h1 += h2;
+            h2 += h1;
+
+            byte[] bytes = new byte[STORED_LENGTH];
+            for (int i = 0; i < 8; i++) {
+                bytes[i] = (byte) (h1 >>> (8 * i));
+                bytes[8 + i] = (byte) (h2 >>> (8 * i));
+            }
+            return DnaHash.of(bytes);
+        }
+
+        private static long mixK1(long k1) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            return k1 * C2;
+        }
+
+        private static long mixK2(long k2) {
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            return k2 * C1;
+        }
+
+        private static long fmix64(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
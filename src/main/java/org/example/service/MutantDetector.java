@@ -1,18 +1,89 @@
 package org.example.service;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.validator.DnaAlphabet;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 /**
  * Servicio para detectar mutantes analizando secuencias de ADN.
  * Implementa todas las optimizaciones requeridas para máxima puntuación.
  */
+@Slf4j
 @Service
 public class MutantDetector {
 
     private static final int SEQUENCE_LENGTH = 4;
-    private static final Set<Character> VALID_BASES = Set.of('A', 'T', 'C', 'G');
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_ENGINE_CLASS = "org.example.service.VectorDetectionEngine";
+
+    private final DetectionEngine engine;
+    private final BitPackedDetectionEngine packedEngine = new BitPackedDetectionEngine();
+    private final ParallelDetectionEngine parallelEngine;
+    private final ForkJoinPool dedicatedPool;
+    private final int parallelThreshold;
+
+    /**
+     * Posición de la salida anticipada del motor escalar: fila de inicio de la
+     * segunda secuencia, como porcentaje de N. Los demás motores no la reportan.
+     */
+    private final DistributionSummary earlyExitSummary;
+
+    public MutantDetector() {
+        this("scalar");
+    }
+
+    public MutantDetector(String engineName) {
+        this(engineName, 0, 0);
+    }
+
+    public MutantDetector(String engineName, int parallelThreshold, int parallelism) {
+        this(engineName, parallelThreshold, parallelism, Metrics.globalRegistry);
+    }
+
+    /**
+     * @param engineName        motor de escaneo configurado en {@code mutant.detector.engine}
+     *                          ({@code scalar}, {@code bitpacked}, {@code runlength} o {@code vector})
+     * @param parallelThreshold tamaño N a partir del cual se escanea en paralelo (0 = nunca)
+     * @param parallelism       hilos del pool dedicado (0 = ForkJoinPool común)
+     * @param meterRegistry     registro de métricas (opcional: sin él se usa el global)
+     */
+    @Autowired
+    public MutantDetector(@Value("${mutant.detector.engine:scalar}") String engineName,
+                          @Value("${mutant.detector.parallel.threshold:0}") int parallelThreshold,
+                          @Value("${mutant.detector.parallel.parallelism:0}") int parallelism,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this(engineName, parallelThreshold, parallelism, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    MutantDetector(String engineName, int parallelThreshold, int parallelism,
+                   MeterRegistry meterRegistry) {
+        this.earlyExitSummary = DistributionSummary.builder("dna.detection.early.exit")
+                .description("Fila de inicio de la segunda secuencia, en porcentaje de N")
+                .baseUnit("percent")
+                .register(meterRegistry);
+        this.engine = createEngine(engineName);
+        this.parallelThreshold = parallelThreshold;
+
+        if (parallelThreshold > 0) {
+            this.dedicatedPool = parallelism > 0 ? new ForkJoinPool(parallelism) : null;
+            this.parallelEngine = new ParallelDetectionEngine(
+                    dedicatedPool != null ? dedicatedPool : ForkJoinPool.commonPool());
+        } else {
+            this.dedicatedPool = null;
+            this.parallelEngine = null;
+        }
+    }
 
     /**
      * Determina si un ADN corresponde a un mutante.
@@ -22,124 +93,220 @@ public class MutantDetector {
      * @return true si es mutante, false si es humano
      */
     public boolean isMutant(String[] dna) {
-        // Validación inicial
-        if (!isValidDna(dna)) {
+        // Solo las matrices grandes pagan el costo de fork/join
+        if (parallelEngine != null && dna != null && dna.length >= parallelThreshold) {
+            return parallelEngine.isMutant(dna);
+        }
+        return engine.isMutant(dna);
+    }
+
+    /**
+     * Determina si un ADN ya empaquetado corresponde a un mutante.
+     * Se escanea con {@link BitPackedDetectionEngine}, que trabaja sobre el mismo
+     * formato, sin importar el motor configurado.
+     *
+     * @param dna matriz validada y empaquetada a 2 bits por base
+     * @return true si es mutante, false si es humano
+     */
+    public boolean isMutantPacked(PackedDna dna) {
+        return packedEngine.isMutantPacked(dna);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dedicatedPool != null) {
+            dedicatedPool.shutdown();
+        }
+    }
+
+    private DetectionEngine createEngine(String engineName) {
+        return switch (engineName.trim().toLowerCase(Locale.ROOT)) {
+            case "scalar" -> this::scanScalar;
+            case "bitpacked" -> new BitPackedDetectionEngine();
+            case "runlength" -> new RunLengthDetectionEngine();
+            case "vector" -> createVectorEngine();
+            default -> throw new IllegalArgumentException("Motor de detección desconocido: " + engineName);
+        };
+    }
+
+    /**
+     * Carga el motor SIMD por reflexión para no enlazar jdk.incubator.vector
+     * cuando el módulo no fue agregado a la JVM.
+     */
+    private DetectionEngine createVectorEngine() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            log.warn("Módulo {} no disponible (falta --add-modules); se usa el motor escalar", VECTOR_MODULE);
+            return this::scanScalar;
+        }
+
+        try {
+            return (DetectionEngine) Class.forName(VECTOR_ENGINE_CLASS)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("No se pudo inicializar el motor vectorial; se usa el motor escalar", e);
+            return this::scanScalar;
+        }
+    }
+
+    /**
+     * Escaneo escalar fusionado: valida, codifica y detecta en un único recorrido.
+     * Cada fila se codifica con la tabla de {@link DnaAlphabet} y, en cuanto están
+     * disponibles las filas {@code r..r+3}, se escanea la fila de inicio {@code r}
+     * mientras sus datos siguen en caché.
+     */
+    private boolean scanScalar(String[] dna) {
+        if (dna == null || dna.length == 0) {
             return false;
         }
 
         final int n = dna.length;
+        byte[][] matrix = new byte[n][];
         int sequenceCount = 0;
 
-        // Optimización #1: Conversión a char[][] para acceso O(1)
-        char[][] matrix = new char[n][];
-        for (int i = 0; i < n; i++) {
-            matrix[i] = dna[i].toCharArray();
+        for (int row = 0; row < n; row++) {
+            // Ya es mutante: el resto de las filas solo se valida, sin codificar
+            if (sequenceCount > 1) {
+                if (!DnaAlphabet.isValidRow(dna[row], n)) {
+                    return false;
+                }
+                continue;
+            }
+
+            // Optimización #1: Conversión a byte[][] (2 bits útiles por base) para acceso O(1)
+            matrix[row] = DnaAlphabet.encodeRow(dna[row], n);
+            if (matrix[row] == null) {
+                return false;
+            }
+
+            if (row >= SEQUENCE_LENGTH - 1) {
+                int startRow = row - (SEQUENCE_LENGTH - 1);
+                sequenceCount = scanRow(matrix, startRow, sequenceCount);
+                if (sequenceCount > 1) {
+                    recordEarlyExit(startRow, n);
+                }
+            }
         }
 
-        // Optimización #2: Single Pass - recorrer UNA SOLA VEZ
-        for (int row = 0; row < n; row++) {
-            for (int col = 0; col < n; col++) {
+        // Filas finales: solo pueden contener secuencias horizontales
+        for (int row = Math.max(0, n - (SEQUENCE_LENGTH - 1)); row < n && sequenceCount <= 1; row++) {
+            sequenceCount = scanRow(matrix, row, sequenceCount);
+            if (sequenceCount > 1) {
+                recordEarlyExit(row, n);
+            }
+        }
+
+        return sequenceCount > 1;
+    }
+
+    private void recordEarlyExit(int startRow, int n) {
+        earlyExitSummary.record(100.0 * (startRow + 1) / n);
+    }
+
+    /**
+     * Escanea las cuatro direcciones de las celdas de inicio de una fila.
+     *
+     * @return conteo acumulado; se detiene en cuanto supera 1
+     */
+    private static int scanRow(byte[][] matrix, int row, int sequenceCount) {
+        final int n = matrix.length;
+
+        // Optimización #2: Single Pass - cada celda de inicio se visita UNA SOLA VEZ
+        for (int col = 0; col < n; col++) {
 
-                // Optimización #3: Boundary Checking - solo buscar donde cabe
+            // Optimización #3: Boundary Checking - solo buscar donde cabe
+            if (col <= n - SEQUENCE_LENGTH) {
+                if (checkHorizontal(matrix, row, col)) {
+                    sequenceCount++;
+                    // Optimización #4: Early Termination - salir inmediatamente
+                    if (sequenceCount > 1) {
+                        return sequenceCount;
+                    }
+                }
+            }
+
+            if (row <= n - SEQUENCE_LENGTH) {
+                if (checkVertical(matrix, row, col)) {
+                    sequenceCount++;
+                    if (sequenceCount > 1) {
+                        return sequenceCount;
+                    }
+                }
+
+                // Diagonal descendente (\)
                 if (col <= n - SEQUENCE_LENGTH) {
-                    if (checkHorizontal(matrix, row, col)) {
+                    if (checkDiagonalDown(matrix, row, col)) {
                         sequenceCount++;
-                        // Optimización #4: Early Termination - salir inmediatamente
                         if (sequenceCount > 1) {
-                            return true;
+                            return sequenceCount;
                         }
                     }
                 }
 
-                if (row <= n - SEQUENCE_LENGTH) {
-                    if (checkVertical(matrix, row, col)) {
+                // Diagonal ascendente (/)
+                if (col >= SEQUENCE_LENGTH - 1) {
+                    if (checkDiagonalUp(matrix, row, col)) {
                         sequenceCount++;
                         if (sequenceCount > 1) {
-                            return true;
-                        }
-                    }
-
-                    // Diagonal descendente (\)
-                    if (col <= n - SEQUENCE_LENGTH) {
-                        if (checkDiagonalDown(matrix, row, col)) {
-                            sequenceCount++;
-                            if (sequenceCount > 1) {
-                                return true;
-                            }
-                        }
-                    }
-
-                    // Diagonal ascendente (/)
-                    if (col >= SEQUENCE_LENGTH - 1) {
-                        if (checkDiagonalUp(matrix, row, col)) {
-                            sequenceCount++;
-                            if (sequenceCount > 1) {
-                                return true;
-                            }
+                            return sequenceCount;
                         }
                     }
                 }
             }
         }
 
-        return false;
+        return sequenceCount;
+    }
+
+    /**
+     * Valida el ADN y lo codifica a byte[][] con la tabla de {@link DnaAlphabet}.
+     *
+     * @return matriz de códigos 0..3, o null si el ADN es inválido
+     */
+    static byte[][] toMatrix(String[] dna) {
+        if (dna == null || dna.length == 0) {
+            return null;
+        }
+
+        final int n = dna.length;
+        byte[][] matrix = new byte[n][];
+        for (int row = 0; row < n; row++) {
+            matrix[row] = DnaAlphabet.encodeRow(dna[row], n);
+            if (matrix[row] == null) {
+                return null;
+            }
+        }
+        return matrix;
     }
 
     /**
      * Optimización #5: Comparación directa sin loops adicionales
      */
-    private boolean checkHorizontal(char[][] matrix, int row, int col) {
-        final char base = matrix[row][col];
+    static boolean checkHorizontal(byte[][] matrix, int row, int col) {
+        final byte base = matrix[row][col];
         return matrix[row][col + 1] == base &&
                matrix[row][col + 2] == base &&
                matrix[row][col + 3] == base;
     }
 
-    private boolean checkVertical(char[][] matrix, int row, int col) {
-        final char base = matrix[row][col];
+    static boolean checkVertical(byte[][] matrix, int row, int col) {
+        final byte base = matrix[row][col];
         return matrix[row + 1][col] == base &&
                matrix[row + 2][col] == base &&
                matrix[row + 3][col] == base;
     }
 
-    private boolean checkDiagonalDown(char[][] matrix, int row, int col) {
-        final char base = matrix[row][col];
+    static boolean checkDiagonalDown(byte[][] matrix, int row, int col) {
+        final byte base = matrix[row][col];
         return matrix[row + 1][col + 1] == base &&
                matrix[row + 2][col + 2] == base &&
                matrix[row + 3][col + 3] == base;
     }
 
-    private boolean checkDiagonalUp(char[][] matrix, int row, int col) {
-        final char base = matrix[row][col];
+    static boolean checkDiagonalUp(byte[][] matrix, int row, int col) {
+        final byte base = matrix[row][col];
         return matrix[row + 1][col - 1] == base &&
                matrix[row + 2][col - 2] == base &&
                matrix[row + 3][col - 3] == base;
     }
-
-    /**
-     * Valida que el ADN sea una matriz NxN válida con caracteres permitidos.
-     */
-    private boolean isValidDna(String[] dna) {
-        if (dna == null || dna.length == 0) {
-            return false;
-        }
-
-        final int n = dna.length;
-
-        // Verificar que sea cuadrada y tenga caracteres válidos
-        for (String sequence : dna) {
-            if (sequence == null || sequence.length() != n) {
-                return false;
-            }
-
-            // Optimización #6: Validation Set O(1)
-            for (char base : sequence.toCharArray()) {
-                if (!VALID_BASES.contains(base)) {
-                    return false;
-                }
-            }
-        }
-
-        return true;
-    }
 }
@@ -1,87 +1,369 @@
 package org.example.service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.example.entity.DnaRecord;
 import org.example.repository.DnaRecordRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Servicio para gestión de análisis de ADN mutante.
  * Incluye persistencia con estrategia de hash para deduplicación.
+ *
+ * <p>Los análisis concurrentes del mismo ADN se agrupan por hash con
+ * {@link SingleFlight}: el primero busca, detecta e inserta, y los demás
+ * esperan su veredicto. La inserción es una única sentencia que ignora el hash
+ * ya existente, de modo que una carrera entre instancias o transacciones no
+ * termina en un error de clave única.
+ *
+ * <p>El agrupamiento ocurre antes de abrir la transacción: solo quien analiza
+ * ocupa una conexión, y los que esperan reciben el veredicto recién después del
+ * commit.
+ *
+ * <p>Antes de buscar por hash se consulta {@link DnaBloomFilter}: si el hash
+ * seguro no existe, se salta la búsqueda y se va directo a la detección.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MutantService {
 
     private final MutantDetector mutantDetector;
     private final DnaRecordRepository dnaRecordRepository;
+    private final DnaRecordWriter dnaRecordWriter;
+    private final VerdictCache verdictCache;
+    private final DnaHasher dnaHasher;
+    private final StatsService statsService;
+    private final DnaMetrics dnaMetrics;
+    private final SingleFlight singleFlight;
+    private final DnaBloomFilter bloomFilter;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Analiza un ADN y persiste el resultado.
-     * Usa hash SHA-256 para evitar duplicados.
+     * Usa el hash de {@link DnaHasher} para evitar duplicados.
      *
      * @param dna Array de Strings con la secuencia de ADN
      * @return true si es mutante, false si es humano
      */
-    @Transactional
     public boolean analyzeDna(String[] dna) {
+        return analyzeDna(dna, null);
+    }
+
+    /**
+     * Analiza un ADN cuyo veredicto puede venir ya calculado (escaneo durante la
+     * deserialización, ver {@code StreamedDnaRequest}). La deduplicación y la
+     * persistencia son las mismas; solo se evita volver a ejecutar el detector.
+     *
+     * @param dna                Array de Strings con la secuencia de ADN
+     * @param precomputedVerdict veredicto ya calculado para este ADN, o null
+     * @return true si es mutante, false si es humano
+     */
+    public boolean analyzeDna(String[] dna, Boolean precomputedVerdict) {
         // Calcular hash del ADN
-        String dnaHash = calculateDnaHash(dna);
+        DnaHash dnaHash = dnaMetrics.hashTimer().record(() -> dnaHasher.hash(dna));
+        return analyze(dnaHash, () -> DnaFingerprint.of(dna), () -> detect(dna, precomputedVerdict));
+    }
+
+    /**
+     * Analiza un ADN ya validado y empaquetado a 2 bits por base (ver
+     * {@code PackedDnaHttpMessageConverter}). Hash, huella y detección trabajan
+     * sobre el formato empaquetado y dan el mismo resultado que con las filas.
+     *
+     * @param dna matriz empaquetada
+     * @return true si es mutante, false si es humano
+     */
+    public boolean analyzePackedDna(PackedDna dna) {
+        DnaHash dnaHash = dnaMetrics.hashTimer().record(() -> dnaHasher.hash(dna));
+        return analyze(dnaHash, () -> DnaFingerprint.of(dna), () -> detect(dna));
+    }
+
+    /**
+     * Deduplicación, detección y persistencia de un ADN con su hash ya calculado.
+     *
+     * @param fingerprintSupplier huella del ADN (solo se calcula con verificación de colisiones)
+     * @param detector            ejecuta el detector sobre el ADN
+     */
+    private boolean analyze(DnaHash dnaHash, Supplier<byte[]> fingerprintSupplier, BooleanSupplier detector) {
+        // Con verificación de colisiones el hash no alcanza para compartir el veredicto:
+        // no se usan la caché ni los análisis en curso
+        if (dnaHasher.verifiesCollisions()) {
+            byte[] fingerprint = fingerprintSupplier.get();
+            return inTransaction(() -> lookupDetectAndPersist(dnaHash, fingerprint, detector));
+        }
+
+        // Caché en memoria: evita la base de datos y el detector
+        Optional<Boolean> cachedVerdict = verdictCache.get(dnaHash);
+        if (cachedVerdict.isPresent()) {
+            dnaMetrics.recordDedupHit(true);
+            return cachedVerdict.get();
+        }
 
-        // Verificar si ya fue analizado (deduplicación)
-        Optional<DnaRecord> existingRecord = dnaRecordRepository.findByDnaHash(dnaHash);
+        // Un análisis del mismo ADN ya en curso: se espera su veredicto
+        return singleFlight.execute(dnaHash,
+                () -> inTransaction(() -> lookupDetectAndPersist(dnaHash, null, detector)));
+    }
+
+    /**
+     * Ejecuta el análisis en una transacción que confirma antes de devolver el veredicto.
+     */
+    private boolean inTransaction(BooleanSupplier analysis) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> analysis.getAsBoolean()));
+    }
+
+    /**
+     * Búsqueda en la base de datos, detección e inserción de un ADN que no está en la caché.
+     *
+     * @param fingerprint huella del ADN, o null sin verificación de colisiones
+     */
+    private boolean lookupDetectAndPersist(DnaHash dnaHash, byte[] fingerprint, BooleanSupplier detector) {
+        boolean verifyCollisions = fingerprint != null;
+
+        // Verificar si ya fue analizado (deduplicación); un negativo del filtro de Bloom evita la búsqueda
+        boolean mightExist = bloomFilter.mightContain(dnaHash);
+        Optional<DnaRecord> existingRecord = mightExist
+                ? dnaMetrics.lookupTimer(false).record(() -> dnaRecordRepository.findByDnaHash(dnaHash.bytes()))
+                : Optional.empty();
+        if (mightExist && existingRecord.isEmpty()) {
+            bloomFilter.recordFalsePositive();
+        }
         if (existingRecord.isPresent()) {
-            return existingRecord.get().isMutant();
+            DnaRecord existing = existingRecord.get();
+            if (verifyCollisions && isCollision(existing, fingerprint)) {
+                // El hash ya pertenece a otro ADN: se analiza sin persistir
+                log.warn("Colisión de hash {}: se analiza el ADN sin deduplicar", dnaHash);
+                return detector.getAsBoolean();
+            }
+            dnaMetrics.recordDedupHit(false);
+            boolean isMutant = existing.isMutant();
+            if (!verifyCollisions) {
+                verdictCache.put(dnaHash, isMutant);
+            }
+            return isMutant;
         }
 
         // Analizar con el algoritmo optimizado
-        boolean isMutant = mutantDetector.isMutant(dna);
+        boolean isMutant = detector.getAsBoolean();
 
-        // Persistir resultado
+        // Persistir resultado (en segundo plano si write-behind está habilitado)
         DnaRecord record = new DnaRecord();
-        record.setDnaHash(dnaHash);
+        record.setDnaHash(dnaHash.bytes());
+        record.setDnaFingerprint(fingerprint);
         record.setMutant(isMutant);
-        dnaRecordRepository.save(record);
+        if (dnaRecordWriter.isEnabled()) {
+            // Antes de encolar: si el batch falla, el writer quita el veredicto de la caché
+            remember(dnaHash, isMutant, verifyCollisions);
+            dnaMetrics.persistTimer(true).record(() -> dnaRecordWriter.enqueue(record));
+        } else {
+            Timer.Sample persistSample = Timer.start();
+            boolean inserted = dnaRecordRepository.insertIgnore(record);
+            if (!inserted) {
+                // Otra transacción lo insertó entre la búsqueda y el insert: mismo ADN, mismo veredicto
+                log.debug("ADN {} insertado por otra transacción", dnaHash);
+                stopPersistSample(persistSample);
+            }
+            // Con rollback no queda nada en la caché ni en el filtro: el próximo request vuelve a persistir
+            afterCommit(() -> {
+                if (inserted) {
+                    stopPersistSample(persistSample);
+                    statsService.recordNewDna(isMutant);
+                }
+                remember(dnaHash, isMutant, verifyCollisions);
+            });
+        }
 
         return isMutant;
     }
 
     /**
-     * Calcula hash SHA-256 de una secuencia de ADN.
-     * Estrategia de deduplicación O(1).
+     * Registra un ADN recién analizado en el filtro de Bloom y, sin verificación
+     * de colisiones, su veredicto en la caché.
+     */
+    private void remember(DnaHash dnaHash, boolean isMutant, boolean verifyCollisions) {
+        bloomFilter.put(dnaHash);
+        if (!verifyCollisions) {
+            verdictCache.put(dnaHash, isMutant);
+        }
+    }
+
+    /**
+     * Analiza un lote de ADN y persiste los nuevos.
+     * Los hashes y la detección se calculan en paralelo; los ADN repetidos dentro
+     * del lote se analizan una sola vez, los existentes se buscan con una única
+     * consulta IN y los nuevos se insertan en un único batch JDBC.
      *
-     * @param dna Array de Strings con la secuencia de ADN
-     * @return Hash SHA-256 en formato hexadecimal
+     * @param dnas secuencias de ADN (ya validadas)
+     * @return veredicto de cada ADN, en el mismo orden
      */
-    private String calculateDnaHash(String[] dna) {
-        try {
-            // Normalizar entrada concatenando las secuencias
-            String dnaString = String.join("", Arrays.asList(dna));
-
-            // Calcular SHA-256
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(dnaString.getBytes(StandardCharsets.UTF_8));
-
-            // Convertir a hexadecimal
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
+    @Transactional
+    public List<Boolean> analyzeDnaBatch(List<String[]> dnas) {
+        final int size = dnas.size();
+        boolean verifyCollisions = dnaHasher.verifiesCollisions();
+
+        DnaHash[] hashes = new DnaHash[size];
+        byte[][] fingerprints = new byte[size][];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            hashes[i] = dnaMetrics.hashTimer().record(() -> dnaHasher.hash(dnas.get(i)));
+            if (verifyCollisions) {
+                fingerprints[i] = DnaFingerprint.of(dnas.get(i));
+            }
+        });
+
+        // Deduplicación dentro del lote: cada ADN apunta a su primera aparición.
+        // Un hash repetido con otra huella es una colisión: se analiza sin persistir.
+        int[] representative = new int[size];
+        boolean[] collision = new boolean[size];
+        Map<DnaHash, Integer> firstByHash = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Integer first = firstByHash.putIfAbsent(hashes[i], i);
+            if (first == null) {
+                representative[i] = i;
+            } else if (verifyCollisions && !Arrays.equals(fingerprints[first], fingerprints[i])) {
+                representative[i] = i;
+                collision[i] = true;
+            } else {
+                representative[i] = first;
+            }
+        }
+
+        // Caché en memoria, filtro de Bloom y una sola consulta para los hashes restantes
+        Boolean[] verdicts = new Boolean[size];
+        Map<DnaHash, Integer> pending = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (representative[i] != i || collision[i]) {
+                continue;
+            }
+            Optional<Boolean> cachedVerdict = verifyCollisions ? Optional.empty() : verdictCache.get(hashes[i]);
+            if (cachedVerdict.isPresent()) {
+                dnaMetrics.recordDedupHit(true);
+                verdicts[i] = cachedVerdict.get();
+            } else if (bloomFilter.mightContain(hashes[i])) {
+                pending.put(hashes[i], i);
+            }
+        }
+        if (!pending.isEmpty()) {
+            List<byte[]> pendingHashes = pending.keySet().stream().map(DnaHash::bytes).toList();
+            List<DnaRecord> existingRecords = dnaMetrics.lookupTimer(true)
+                    .record(() -> dnaRecordRepository.findByDnaHashIn(pendingHashes));
+            bloomFilter.recordFalsePositives(pending.size() - existingRecords.size());
+            for (DnaRecord existing : existingRecords) {
+                int i = pending.get(DnaHash.of(existing.getDnaHash()));
+                if (verifyCollisions && isCollision(existing, fingerprints[i])) {
+                    log.warn("Colisión de hash {}: se analiza el ADN sin deduplicar", hashes[i]);
+                    collision[i] = true;
+                } else {
+                    dnaMetrics.recordDedupHit(false);
+                    verdicts[i] = existing.isMutant();
+                    if (!verifyCollisions) {
+                        verdictCache.put(hashes[i], existing.isMutant());
+                    }
                 }
-                hexString.append(hex);
             }
+        }
+
+        // Detección en paralelo de los ADN sin veredicto
+        int[] toAnalyze = IntStream.range(0, size)
+                .filter(i -> representative[i] == i && verdicts[i] == null)
+                .toArray();
+        Arrays.stream(toAnalyze).parallel()
+                .forEach(i -> verdicts[i] = detect(dnas.get(i), null));
+
+        // Persistir los nuevos en un único batch
+        List<DnaRecord> newRecords = new ArrayList<>(toAnalyze.length);
+        for (int i : toAnalyze) {
+            if (collision[i]) {
+                continue;
+            }
+            DnaRecord record = new DnaRecord();
+            record.setDnaHash(hashes[i].bytes());
+            record.setDnaFingerprint(fingerprints[i]);
+            record.setMutant(verdicts[i]);
+            newRecords.add(record);
+        }
+        if (!newRecords.isEmpty()) {
+            List<DnaRecord> inserted = dnaRecordRepository.insertIgnoreAll(newRecords);
+            afterCommit(() -> {
+                inserted.forEach(record -> statsService.recordNewDna(record.isMutant()));
+                newRecords.forEach(record ->
+                        remember(DnaHash.of(record.getDnaHash()), record.isMutant(), verifyCollisions));
+            });
+        }
+
+        List<Boolean> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(verdicts[representative[i]]);
+        }
+        return results;
+    }
 
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Error calculando hash SHA-256", e);
+    /**
+     * Ejecuta el detector y registra su duración por tamaño y veredicto.
+     * Un veredicto ya calculado se usa tal cual.
+     */
+    private boolean detect(String[] dna, Boolean precomputedVerdict) {
+        if (precomputedVerdict != null) {
+            return precomputedVerdict;
         }
+        long start = System.nanoTime();
+        boolean isMutant = mutantDetector.isMutant(dna);
+        dnaMetrics.recordDetection(dna.length, isMutant, System.nanoTime() - start);
+        return isMutant;
+    }
+
+    private boolean detect(PackedDna dna) {
+        long start = System.nanoTime();
+        boolean isMutant = mutantDetector.isMutantPacked(dna);
+        dnaMetrics.recordDetection(dna.size(), isMutant, System.nanoTime() - start);
+        return isMutant;
+    }
+
+    /**
+     * Ejecuta la acción cuando la transacción confirma la inserción (estadísticas,
+     * caché y filtro de Bloom), o en el momento si no hay transacción. En
+     * write-behind las estadísticas las suma {@link DnaRecordWriter} al persistir
+     * cada batch.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Detiene la medición iniciada antes del insert (con el commit, si insertó).
+     */
+    private void stopPersistSample(Timer.Sample persistSample) {
+        persistSample.stop(dnaMetrics.persistTimer(false));
+    }
+
+    /**
+     * Un registro sin huella (guardado antes de habilitar la verificación) se acepta.
+     */
+    private boolean isCollision(DnaRecord existing, byte[] fingerprint) {
+        return existing.getDnaFingerprint() != null
+                && !Arrays.equals(existing.getDnaFingerprint(), fingerprint);
     }
 }
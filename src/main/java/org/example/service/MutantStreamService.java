@@ -0,0 +1,129 @@
+package org.example.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.dto.DnaBatchResult;
+import org.example.dto.DnaRequest;
+import org.example.validator.DnaRequestItemValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Análisis masivo de ADN en NDJSON (un DnaRequest por línea).
+ * El cuerpo se lee con el {@link JsonParser} de Jackson un objeto a la vez y se
+ * procesa en bloques de {@code mutant.stream.chunk-size} items: cada bloque pasa por
+ * {@link MutantService#analyzeDnaBatch} (una consulta IN y un insert por lotes) y
+ * sus resultados se escriben y se envían antes de leer el siguiente. La memoria
+ * usada depende del tamaño del bloque, no del cuerpo.
+ */
+@Slf4j
+@Service
+public class MutantStreamService {
+
+    private final MutantService mutantService;
+    private final DnaRequestItemValidator itemValidator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public MutantStreamService(MutantService mutantService,
+                               DnaRequestItemValidator itemValidator,
+                               ObjectMapper objectMapper,
+                               @Value("${mutant.stream.chunk-size:500}") int chunkSize) {
+        this.mutantService = mutantService;
+        this.itemValidator = itemValidator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Lee el NDJSON de entrada y escribe un {@link DnaBatchResult} por línea en la salida,
+     * en el mismo orden. Una línea que no es JSON válido no permite seguir leyendo:
+     * se informa como error y el stream termina.
+     *
+     * @param input  cuerpo NDJSON
+     * @param output destino de los resultados NDJSON
+     * @return cantidad de items procesados
+     */
+    public long analyze(InputStream input, OutputStream output) throws IOException {
+        long processed = 0;
+        List<DnaRequest> chunk = new ArrayList<>(chunkSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(input);
+             SequenceWriter writer = objectMapper.writer()
+                     .withRootValueSeparator("\n")
+                     .writeValues(output)) {
+            boolean malformed = false;
+            try {
+                while (parser.nextToken() != null) {
+                    chunk.add(parser.currentToken() == JsonToken.VALUE_NULL
+                            ? null
+                            : objectMapper.readValue(parser, DnaRequest.class));
+                    if (chunk.size() == chunkSize) {
+                        processed += writeChunk(chunk, writer, output);
+                    }
+                }
+                processed += writeChunk(chunk, writer, output);
+            } catch (JsonProcessingException e) {
+                // Lo leído antes de la línea inválida se procesa igual
+                processed += writeChunk(chunk, writer, output);
+                log.warn("NDJSON inválido tras {} items: {}", processed, e.getOriginalMessage());
+                writer.write(DnaBatchResult.invalid("JSON inválido: " + e.getOriginalMessage()));
+                writer.flush();
+                malformed = true;
+            }
+            // El separador de SequenceWriter va entre valores: cierra la última línea, si la hay
+            if (processed > 0 || malformed) {
+                output.write('\n');
+            }
+        }
+        return processed;
+    }
+
+    private int writeChunk(List<DnaRequest> chunk, SequenceWriter writer, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        DnaBatchResult[] results = new DnaBatchResult[chunk.size()];
+        List<Integer> validIndexes = new ArrayList<>(chunk.size());
+        List<String[]> validDnas = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            String error = itemValidator.validate(chunk.get(i));
+            if (error != null) {
+                results[i] = DnaBatchResult.invalid(error);
+            } else {
+                validIndexes.add(i);
+                validDnas.add(chunk.get(i).getDna());
+            }
+        }
+        if (!validDnas.isEmpty()) {
+            List<Boolean> verdicts = mutantService.analyzeDnaBatch(validDnas);
+            for (int j = 0; j < verdicts.size(); j++) {
+                results[validIndexes.get(j)] = DnaBatchResult.verdict(verdicts.get(j));
+            }
+        }
+
+        for (DnaBatchResult result : results) {
+            writer.write(result);
+        }
+        // Envía el bloque al cliente antes de leer el siguiente
+        writer.flush();
+        output.flush();
+
+        int size = chunk.size();
+        chunk.clear();
+        return size;
+    }
+}
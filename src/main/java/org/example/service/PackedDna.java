@@ -0,0 +1,135 @@
+package org.example.service;
+
+import org.example.validator.DnaAlphabet;
+
+/**
+ * Matriz de ADN válida empaquetada a 2 bits por base (A=00, C=01, G=10, T=11),
+ * con cada fila alineada a palabras de 64 bits: el mismo formato que escanea
+ * {@link BitPackedDetectionEngine}. Permite detectar, calcular el hash y la huella
+ * sin pasar por {@code String} ni {@code char[]}.
+ */
+public final class PackedDna {
+
+    static final int BASES_PER_WORD = 32;
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private final int n;
+    private final long[] words;
+
+    private PackedDna(int n, long[] words) {
+        this.n = n;
+        this.words = words;
+    }
+
+    /**
+     * @param dna Array de Strings con la secuencia de ADN
+     * @return ADN empaquetado, o null si no es una matriz NxN válida
+     */
+    public static PackedDna of(String[] dna) {
+        long[] words = BitPackedDetectionEngine.encode(dna);
+        return words == null ? null : new PackedDna(dna.length, words);
+    }
+
+    /**
+     * @param words filas ya empaquetadas, {@code wordsPerRow(n)} palabras por fila
+     */
+    static PackedDna wrap(int n, long[] words) {
+        return new PackedDna(n, words);
+    }
+
+    /**
+     * @return tamaño N de la matriz
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * @return código 0..3 de la base en (row, col)
+     */
+    public int code(int row, int col) {
+        long word = words[row * wordsPerRow(n) + col / BASES_PER_WORD];
+        return (int) (word >>> (2 * (col % BASES_PER_WORD))) & 3;
+    }
+
+    /**
+     * Filas empaquetadas de forma contigua, {@code wordsPerRow(n)} palabras por fila.
+     */
+    long[] words() {
+        return words;
+    }
+
+    /**
+     * Reconstruye las filas como Strings (para implementaciones sin soporte del formato empaquetado).
+     */
+    public String[] toRows() {
+        String[] rows = new String[n];
+        char[] chars = new char[n];
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                chars[col] = BASES[code(row, col)];
+            }
+            rows[row] = new String(chars);
+        }
+        return rows;
+    }
+
+    static int wordsPerRow(int n) {
+        return (n + BASES_PER_WORD - 1) / BASES_PER_WORD;
+    }
+
+    /**
+     * Empaqueta una matriz fila por fila a partir de bytes ASCII, validando a medida que avanza.
+     * No es thread-safe: se usa una instancia por matriz.
+     */
+    public static final class Builder {
+
+        private final int n;
+        private final int wordsPerRow;
+        private final long[] words;
+        private int rows;
+
+        /**
+         * @param n tamaño de la matriz (largo de la primera fila)
+         */
+        public Builder(int n) {
+            if (n < 1) {
+                throw new IllegalArgumentException("El tamaño de la matriz debe ser positivo: " + n);
+            }
+            this.n = n;
+            this.wordsPerRow = wordsPerRow(n);
+            this.words = new long[Math.multiplyExact(n, wordsPerRow)];
+        }
+
+        /**
+         * Agrega la siguiente fila.
+         *
+         * @param bytes  buffer con la fila en ASCII
+         * @param offset posición de la primera base
+         * @param length cantidad de bases
+         * @return false si la fila no tiene N bases válidas o ya se recibieron N filas
+         */
+        public boolean appendRow(byte[] bytes, int offset, int length) {
+            if (length != n || rows == n) {
+                return false;
+            }
+            final int rowOffset = rows * wordsPerRow;
+            for (int col = 0; col < n; col++) {
+                long code = DnaAlphabet.code((char) (bytes[offset + col] & 0xFF));
+                if (code == DnaAlphabet.INVALID) {
+                    return false;
+                }
+                words[rowOffset + col / BASES_PER_WORD] |= code << (2 * (col % BASES_PER_WORD));
+            }
+            rows++;
+            return true;
+        }
+
+        /**
+         * @return la matriz empaquetada, o null si no se recibieron exactamente N filas
+         */
+        public PackedDna build() {
+            return rows == n ? new PackedDna(n, words) : null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Motor de detección paralelo para matrices muy grandes.
+ * Divide la matriz en franjas de filas que se escanean en un {@link ForkJoinPool};
+ * cada franja lee 3 filas extra por debajo (solapamiento) para las secuencias
+ * verticales y diagonales que empiezan en sus filas.
+ * Un contador atómico compartido permite que todas las franjas terminen en cuanto
+ * el total global supera 1.
+ */
+public class ParallelDetectionEngine implements DetectionEngine {
+
+    private static final int SEQUENCE_LENGTH = 4;
+    private static final int MIN_BAND_ROWS = 64;
+    private static final int BANDS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+
+    public ParallelDetectionEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        byte[][] matrix = MutantDetector.toMatrix(dna);
+        if (matrix == null) {
+            return false;
+        }
+
+        final int n = matrix.length;
+        final int bandRows = Math.max(MIN_BAND_ROWS,
+                (n + pool.getParallelism() * BANDS_PER_THREAD - 1) / (pool.getParallelism() * BANDS_PER_THREAD));
+
+        AtomicInteger sequenceCount = new AtomicInteger();
+        pool.invoke(new BandScan(matrix, 0, n, bandRows, sequenceCount));
+
+        return sequenceCount.get() > 1;
+    }
+
+    /**
+     * Escanea las filas de inicio [fromRow, toRow), dividiendo en dos mientras
+     * la franja supere {@code bandRows}.
+     */
+    private static final class BandScan extends RecursiveAction {
+
+        private final byte[][] matrix;
+        private final int fromRow;
+        private final int toRow;
+        private final int bandRows;
+        private final AtomicInteger sequenceCount;
+
+        BandScan(byte[][] matrix, int fromRow, int toRow, int bandRows, AtomicInteger sequenceCount) {
+            this.matrix = matrix;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.bandRows = bandRows;
+            this.sequenceCount = sequenceCount;
+        }
+
+        @Override
+        protected void compute() {
+            if (sequenceCount.get() > 1) {
+                return;
+            }
+
+            if (toRow - fromRow > bandRows) {
+                int middle = (fromRow + toRow) >>> 1;
+                invokeAll(new BandScan(matrix, fromRow, middle, bandRows, sequenceCount),
+                          new BandScan(matrix, middle, toRow, bandRows, sequenceCount));
+                return;
+            }
+
+            scanBand();
+        }
+
+        private void scanBand() {
+            final int n = matrix.length;
+
+            for (int row = fromRow; row < toRow; row++) {
+                // Terminación temprana global: otra franja ya completó el conteo
+                if (sequenceCount.get() > 1) {
+                    return;
+                }
+
+                for (int col = 0; col < n; col++) {
+                    if (col <= n - SEQUENCE_LENGTH
+                            && MutantDetector.checkHorizontal(matrix, row, col)
+                            && sequenceCount.incrementAndGet() > 1) {
+                        return;
+                    }
+
+                    if (row <= n - SEQUENCE_LENGTH) {
+                        if (MutantDetector.checkVertical(matrix, row, col)
+                                && sequenceCount.incrementAndGet() > 1) {
+                            return;
+                        }
+
+                        if (col <= n - SEQUENCE_LENGTH
+                                && MutantDetector.checkDiagonalDown(matrix, row, col)
+                                && sequenceCount.incrementAndGet() > 1) {
+                            return;
+                        }
+
+                        if (col >= SEQUENCE_LENGTH - 1
+                                && MutantDetector.checkDiagonalUp(matrix, row, col)
+                                && sequenceCount.incrementAndGet() > 1) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.service;
+
+/**
+ * Motor de detección por longitudes de racha: cada base se lee una sola vez y se
+ * compara con sus vecinas de la fila anterior, que ya están codificadas en un
+ * buffer de una fila. Encontrar una secuencia de 4 es solo un incremento de
+ * contador. El escaneo lo hace {@link StreamingMutantDetector}, alimentado con
+ * las filas de la matriz ya deserializada.
+ */
+public class RunLengthDetectionEngine implements DetectionEngine {
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        if (dna == null || dna.length == 0) {
+            return false;
+        }
+
+        StreamingMutantDetector detector = new StreamingMutantDetector(dna.length);
+        for (String sequence : dna) {
+            if (!detector.acceptRow(sequence)) {
+                return false;
+            }
+        }
+        return detector.isMutant();
+    }
+
+    /**
+     * Cuenta todas las secuencias de 4, sin salida anticipada.
+     *
+     * @return cantidad de secuencias, o -1 si el ADN es inválido
+     */
+    int countSequences(String[] dna) {
+        if (dna == null || dna.length == 0) {
+            return -1;
+        }
+
+        StreamingMutantDetector detector = new StreamingMutantDetector(dna.length, Integer.MAX_VALUE);
+        for (String sequence : dna) {
+            if (!detector.acceptRow(sequence)) {
+                return -1;
+            }
+        }
+        return detector.sequenceCount();
+    }
+}
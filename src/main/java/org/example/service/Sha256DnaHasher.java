@@ -0,0 +1,145 @@
+package org.example.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hash SHA-256 del ADN (algoritmo por defecto).
+ * Produce el mismo digest que SHA-256 sobre la concatenación UTF-8 de las filas,
+ * pero alimenta el digest fila por fila desde un buffer reutilizable, sin
+ * {@code String.join} ni {@code MessageDigest.getInstance} por request.
+ *
+ * <p>Digest y buffer se toman de un pool acotado en lugar de un ThreadLocal: con
+ * hilos virtuales (uno nuevo por request) un ThreadLocal se crearía en cada request.
+ */
+@Component
+@ConditionalOnProperty(name = "mutant.hash.algorithm", havingValue = "sha256", matchIfMissing = true)
+public class Sha256DnaHasher implements DnaHasher {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] BASES = {'A', 'C', 'G', 'T'};
+
+    private static final int POOL_SIZE = 4 * Runtime.getRuntime().availableProcessors();
+
+    private static final BlockingQueue<Workspace> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private final boolean collisionCheck;
+
+    public Sha256DnaHasher() {
+        this(false);
+    }
+
+    @Autowired
+    public Sha256DnaHasher(@Value("${mutant.hash.collision-check:false}") boolean collisionCheck) {
+        this.collisionCheck = collisionCheck;
+    }
+
+    @Override
+    public DnaHash hash(String[] dna) {
+        Workspace workspace = POOL.poll();
+        if (workspace == null) {
+            workspace = new Workspace();
+        }
+        try {
+            return hash(dna, workspace.digest, workspace.buffer);
+        } finally {
+            // Por si una excepción dejó el digest a medias antes de volver al pool
+            workspace.digest.reset();
+            POOL.offer(workspace);
+        }
+    }
+
+    /**
+     * Las bases se decodifican a ASCII directamente en el buffer del digest.
+     */
+    @Override
+    public DnaHash hash(PackedDna dna) {
+        Workspace workspace = POOL.poll();
+        if (workspace == null) {
+            workspace = new Workspace();
+        }
+        try {
+            return hash(dna, workspace.digest, workspace.buffer);
+        } finally {
+            workspace.digest.reset();
+            POOL.offer(workspace);
+        }
+    }
+
+    private static DnaHash hash(PackedDna dna, MessageDigest digest, byte[] buffer) {
+        final int n = dna.size();
+        int length = 0;
+
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                if (length == BUFFER_SIZE) {
+                    digest.update(buffer, 0, length);
+                    length = 0;
+                }
+                buffer[length++] = BASES[dna.code(row, col)];
+            }
+        }
+        digest.update(buffer, 0, length);
+
+        return DnaHash.of(digest.digest());
+    }
+
+    private static DnaHash hash(String[] dna, MessageDigest digest, byte[] buffer) {
+        int length = 0;
+
+        for (String sequence : dna) {
+            // Mismo resultado que String.join sobre una fila null
+            String row = sequence != null ? sequence : "null";
+
+            for (int col = 0; col < row.length(); col++) {
+                char c = row.charAt(col);
+                if (c >= 0x80) {
+                    // Fila no ASCII (ADN inválido): se codifica completa en UTF-8
+                    digest.update(buffer, 0, length);
+                    length = 0;
+                    digest.update(row.substring(col).getBytes(StandardCharsets.UTF_8));
+                    break;
+                }
+                if (length == BUFFER_SIZE) {
+                    digest.update(buffer, 0, length);
+                    length = 0;
+                }
+                buffer[length++] = (byte) c;
+            }
+        }
+        digest.update(buffer, 0, length);
+
+        return DnaHash.of(digest.digest());
+    }
+
+    @Override
+    public boolean verifiesCollisions() {
+        return collisionCheck;
+    }
+
+    /**
+     * Digest y buffer reutilizables por un request a la vez.
+     */
+    private static final class Workspace {
+
+        private final MessageDigest digest = newDigest();
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private static MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Error calculando hash SHA-256", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Agrupa los análisis concurrentes del mismo ADN (single-flight): el primero
+ * con un hash dado ejecuta el análisis y los que llegan mientras tanto esperan
+ * el mismo {@link CompletableFuture}. Una ráfaga de N duplicados cuesta una
+ * detección y una inserción en lugar de N.
+ *
+ * <ul>
+ *   <li>Falla: el error se propaga a quienes esperaban y la entrada se quita en
+ *       el acto, de modo que el siguiente pedido vuelve a intentar.</li>
+ *   <li>Timeout: nadie espera más de {@code mutant.single-flight.timeout-ms}
+ *       desde que empezó el análisis en curso; pasado ese tiempo cada uno
+ *       analiza por su cuenta (la inserción ignora el hash repetido).</li>
+ *   <li>Interrupción: quien espera no analiza (JDBC en un hilo interrumpido no es
+ *       confiable y en H2 en archivo puede cerrar el archivo); conserva el flag
+ *       y falla con {@link IllegalStateException}.</li>
+ * </ul>
+ */
+@Component
+public class SingleFlight {
+
+    private final DnaMetrics dnaMetrics;
+    private final boolean enabled;
+    private final long timeoutNanos;
+
+    private final ConcurrentHashMap<DnaHash, Flight> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(DnaMetrics dnaMetrics,
+                        @Value("${mutant.single-flight.enabled:true}") boolean enabled,
+                        @Value("${mutant.single-flight.timeout-ms:5000}") long timeoutMs) {
+        this.dnaMetrics = dnaMetrics;
+        this.enabled = enabled;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    }
+
+    /**
+     * Ejecuta el análisis, o espera el que ya está en curso para el mismo hash.
+     *
+     * @param dnaHash  hash del ADN
+     * @param analysis análisis completo (búsqueda, detección y persistencia)
+     * @return veredicto propio o compartido
+     */
+    public boolean execute(DnaHash dnaHash, BooleanSupplier analysis) {
+        if (!enabled) {
+            return analysis.getAsBoolean();
+        }
+
+        Flight own = new Flight(System.nanoTime());
+        Flight running = inFlight.putIfAbsent(dnaHash, own);
+        if (running == null) {
+            return lead(dnaHash, own, analysis);
+        }
+
+        long remainingNanos = timeoutNanos - (System.nanoTime() - running.startNanos);
+        try {
+            if (remainingNanos > 0) {
+                boolean isMutant = running.future.get(remainingNanos, TimeUnit.NANOSECONDS);
+                dnaMetrics.recordSingleFlight(DnaMetrics.SingleFlightOutcome.SHARED);
+                return isMutant;
+            }
+        } catch (ExecutionException e) {
+            dnaMetrics.recordSingleFlight(DnaMetrics.SingleFlightOutcome.FAILED);
+            throw propagate(e.getCause());
+        } catch (TimeoutException e) {
+            // Se analiza por cuenta propia
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dnaMetrics.recordSingleFlight(DnaMetrics.SingleFlightOutcome.INTERRUPTED);
+            throw new IllegalStateException("Interrumpido esperando el análisis en curso del mismo ADN", e);
+        }
+
+        dnaMetrics.recordSingleFlight(DnaMetrics.SingleFlightOutcome.TIMEOUT);
+        return analysis.getAsBoolean();
+    }
+
+    /**
+     * @return cantidad de análisis en curso
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    private boolean lead(DnaHash dnaHash, Flight own, BooleanSupplier analysis) {
+        try {
+            boolean isMutant = analysis.getAsBoolean();
+            own.future.complete(isMutant);
+            return isMutant;
+        } catch (RuntimeException | Error e) {
+            own.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(dnaHash, own);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Falló el análisis en curso del mismo ADN", cause);
+    }
+
+    private static final class Flight {
+        private final long startNanos;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private Flight(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+}
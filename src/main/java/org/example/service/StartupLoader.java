@@ -0,0 +1,65 @@
+package org.example.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ejecuta las cargas de arranque que recorren {@code dna_records} (contadores y
+ * rollups de estadísticas, filtro de Bloom). Por defecto corren en línea, antes
+ * de que la aplicación acepte requests; con {@code mutant.startup.async-load=true}
+ * corren en un hilo propio y la aplicación arranca sin esperar a que terminen,
+ * lo que con decenas de millones de registros puede llevar varios segundos.
+ *
+ * <p>Cada carga debe tolerar inserciones concurrentes mientras corre.
+ */
+@Slf4j
+@Component
+public class StartupLoader {
+
+    private final boolean async;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public StartupLoader(@Value("${mutant.startup.async-load:false}") boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * @param name nombre de la carga (para el hilo y el log)
+     * @param task carga a ejecutar
+     */
+    public void run(String name, Runnable task) {
+        if (!async) {
+            timed(name, task);
+            return;
+        }
+        pending.incrementAndGet();
+        Thread thread = new Thread(() -> {
+            try {
+                timed(name, task);
+            } catch (RuntimeException e) {
+                log.error("Falló la carga de arranque '{}'", name, e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        }, "startup-load-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return cantidad de cargas en segundo plano que todavía no terminaron
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    private static void timed(String name, Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        log.info("Carga de arranque '{}' terminada en {} ms", name, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.service;
+
+import java.util.Locale;
+
+/**
+ * Granularidad de los buckets de GET /stats?from=&amp;to=&amp;granularity=.
+ */
+public enum StatsGranularity {
+
+    MINUTE(1),
+    HOUR(60),
+    DAY(24 * 60);
+
+    private final int minutes;
+
+    StatsGranularity(int minutes) {
+        this.minutes = minutes;
+    }
+
+    /**
+     * @return duración de un bucket en minutos
+     */
+    public int minutes() {
+        return minutes;
+    }
+
+    /**
+     * @return nombre en minúsculas, como se recibe en la consulta
+     */
+    public String value() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param value minute, hour o day (sin distinguir mayúsculas)
+     * @return la granularidad, o null si el valor no es válido
+     */
+    public static StatsGranularity fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (StatsGranularity granularity : values()) {
+            if (granularity.value().equals(value.trim().toLowerCase(Locale.ROOT))) {
+                return granularity;
+            }
+        }
+        return null;
+    }
+}
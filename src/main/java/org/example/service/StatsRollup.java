@@ -0,0 +1,157 @@
+package org.example.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.dto.StatsBucket;
+
+/**
+ * Contadores de mutantes y humanos pre-agregados por minuto, hora y día, para
+ * responder consultas por ventana de tiempo sin recorrer {@code dna_records}.
+ * Cada inserción incrementa un bucket de cada granularidad; una consulta solo
+ * recorre los buckets no vacíos del rango.
+ *
+ * <p>Los buckets por hora y por día se conservan siempre (unas 9.000 y 365
+ * entradas por año); los de minuto, solo durante {@link #MINUTE_RETENTION}.
+ * Las fechas son locales, igual que {@code DnaRecord.createdAt}.
+ */
+final class StatsRollup {
+
+    static final Duration MINUTE_RETENTION = Duration.ofHours(24);
+
+    private final Clock clock;
+
+    /**
+     * Bucket por minuto de inicio (minutos desde 1970-01-01T00:00 local).
+     */
+    private final Map<StatsGranularity, ConcurrentSkipListMap<Long, Bucket>> buckets =
+            new EnumMap<>(StatsGranularity.class);
+
+    StatsRollup(Clock clock) {
+        this.clock = clock;
+        for (StatsGranularity granularity : StatsGranularity.values()) {
+            buckets.put(granularity, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * @return fecha y hora actuales según el reloj del rollup
+     */
+    LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * @return la fecha más antigua consultable con granularidad minuto
+     */
+    LocalDateTime minuteRetentionStart() {
+        return now().minus(MINUTE_RETENTION);
+    }
+
+    /**
+     * Registra un ADN insertado ahora.
+     */
+    void record(boolean isMutant) {
+        add(now(), isMutant, 1);
+    }
+
+    /**
+     * Suma {@code count} registros al bucket de {@code time} de cada granularidad.
+     * Los minutos fuera de la retención se ignoran.
+     */
+    void add(LocalDateTime time, boolean isMutant, long count) {
+        long minute = epochMinute(time);
+        LocalDateTime retentionStart = minuteRetentionStart();
+        for (StatsGranularity granularity : StatsGranularity.values()) {
+            if (granularity == StatsGranularity.MINUTE && time.isBefore(retentionStart)) {
+                continue;
+            }
+            ConcurrentSkipListMap<Long, Bucket> map = buckets.get(granularity);
+            long key = bucketStart(minute, granularity);
+            Bucket bucket = map.get(key);
+            if (bucket == null) {
+                bucket = map.computeIfAbsent(key, k -> new Bucket());
+                if (granularity == StatsGranularity.MINUTE) {
+                    // Un bucket de minuto nuevo por minuto: buen momento para descartar los vencidos
+                    map.headMap(epochMinute(retentionStart)).clear();
+                }
+            }
+            (isMutant ? bucket.mutant : bucket.human).add(count);
+        }
+    }
+
+    /**
+     * Suma {@code count} registros a un bucket ya agregado (reconstrucción desde la base de datos).
+     *
+     * @param start inicio del bucket, alineado a la granularidad
+     */
+    void load(StatsGranularity granularity, LocalDateTime start, boolean isMutant, long count) {
+        Bucket bucket = buckets.get(granularity).computeIfAbsent(
+                bucketStart(epochMinute(start), granularity), k -> new Bucket());
+        (isMutant ? bucket.mutant : bucket.human).add(count);
+    }
+
+    /**
+     * Descarta todos los buckets (antes de reconstruirlos).
+     */
+    void clear() {
+        buckets.values().forEach(Map::clear);
+    }
+
+    /**
+     * @return buckets no vacíos que se solapan con [from, to), en orden
+     */
+    List<StatsBucket> query(LocalDateTime from, LocalDateTime to, StatsGranularity granularity) {
+        long fromKey = epochMinute(floor(from, granularity));
+        long toKey = epochMinute(ceil(to, granularity));
+
+        List<StatsBucket> result = new ArrayList<>();
+        for (Map.Entry<Long, Bucket> entry : buckets.get(granularity).subMap(fromKey, toKey).entrySet()) {
+            long mutant = entry.getValue().mutant.sum();
+            long human = entry.getValue().human.sum();
+            result.add(new StatsBucket(toDateTime(entry.getKey()), mutant, human, StatsService.ratio(mutant, human)));
+        }
+        return result;
+    }
+
+    /**
+     * @return inicio del bucket que contiene {@code time}
+     */
+    static LocalDateTime floor(LocalDateTime time, StatsGranularity granularity) {
+        return toDateTime(bucketStart(epochMinute(time), granularity));
+    }
+
+    /**
+     * @return inicio del primer bucket que empieza en {@code time} o después: como
+     *         fin exclusivo, incluye el bucket que contiene {@code time}
+     */
+    static LocalDateTime ceil(LocalDateTime time, StatsGranularity granularity) {
+        LocalDateTime start = floor(time, granularity);
+        return start.isBefore(time) ? start.plusMinutes(granularity.minutes()) : start;
+    }
+
+    private static long bucketStart(long minute, StatsGranularity granularity) {
+        return Math.floorDiv(minute, granularity.minutes()) * granularity.minutes();
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private static final class Bucket {
+        private final LongAdder mutant = new LongAdder();
+        private final LongAdder human = new LongAdder();
+    }
+}
@@ -1,18 +1,129 @@
 package org.example.service;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+import org.example.dto.StatsBucket;
 import org.example.dto.StatsResponse;
+import org.example.dto.StatsWindowResponse;
+import org.example.exception.InvalidStatsQueryException;
 import org.example.repository.DnaRecordRepository;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Servicio para obtener estadísticas de verificaciones de ADN.
+ * Las estadísticas se sirven desde contadores en memoria: se cargan de la base
+ * de datos al iniciar y se incrementan cada vez que se inserta un registro nuevo,
+ * de modo que GET /stats no recorre la tabla. Una tarea periódica los concilia
+ * con la base de datos.
+ *
+ * <p>Las consultas por ventana de tiempo se sirven desde {@link StatsRollup},
+ * que se reconstruye al iniciar agrupando {@code dna_records} por hora (y por
+ * minuto en las últimas 24 horas) y después se actualiza con cada inserción.
+ * La conciliación periódica corrige solo los totales.
+ *
+ * <p>La carga corre mediante {@link StartupLoader}, que puede ejecutarla en
+ * segundo plano con la aplicación ya atendiendo requests: los registros que
+ * llegan mientras tanto se suman en vivo y la carga solo cuenta los anteriores.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StatsService {
 
     private final DnaRecordRepository dnaRecordRepository;
+    private final StartupLoader startupLoader;
+
+    private final LongAdder mutantCount = new LongAdder();
+    private final LongAdder humanCount = new LongAdder();
+
+    /**
+     * Uso invertido: los incrementos comparten el read lock entre sí y la
+     * lectura de la foto toma el write lock, para que mutantes y humanos
+     * correspondan al mismo instante.
+     */
+    private final StampedLock snapshotLock = new StampedLock();
+
+    private final StatsRollup rollup = new StatsRollup(Clock.systemDefaultZone());
+
+    /**
+     * Carga los contadores al iniciar (en línea o en segundo plano, ver {@link StartupLoader}).
+     */
+    @PostConstruct
+    public void startLoading() {
+        startupLoader.run("stats", this::loadCounters);
+    }
+
+    /**
+     * Carga los contadores y los rollups con los registros existentes. Los
+     * registros sumados en vivo desde que empezó la carga se conservan.
+     */
+    public void loadCounters() {
+        LocalDateTime loadStart = rollup.now();
+        StatsResponse live = getStats();
+        long countMutant = dnaRecordRepository.countByIsMutant(true);
+        long countHuman = dnaRecordRepository.countByIsMutant(false);
+        long stamp = snapshotLock.writeLock();
+        try {
+            // Un registro insertado durante el conteo puede quedar sumado dos veces: lo corrige reconcile()
+            long liveMutant = mutantCount.sum() - live.getCountMutantDna();
+            long liveHuman = humanCount.sum() - live.getCountHumanDna();
+            mutantCount.reset();
+            mutantCount.add(countMutant + liveMutant);
+            humanCount.reset();
+            humanCount.add(countHuman + liveHuman);
+        } finally {
+            snapshotLock.unlockWrite(stamp);
+        }
+        log.info("Contadores de estadísticas cargados (mutantes={}, humanos={})", countMutant, countHuman);
+        loadRollups(loadStart);
+    }
+
+    /**
+     * Suma a los rollups los registros creados antes de {@code before}; los
+     * posteriores ya se sumaron en vivo.
+     */
+    private void loadRollups(LocalDateTime before) {
+        List<Object[]> hours = dnaRecordRepository.countByHourBefore(before);
+        for (Object[] row : hours) {
+            LocalDateTime start = ((LocalDate) row[0]).atTime(((Number) row[1]).intValue(), 0);
+            boolean isMutant = (Boolean) row[2];
+            long count = ((Number) row[3]).longValue();
+            rollup.load(StatsGranularity.HOUR, start, isMutant, count);
+            rollup.load(StatsGranularity.DAY, start, isMutant, count);
+        }
+        List<Object[]> minutes = dnaRecordRepository.countByMinuteBetween(
+                rollup.minuteRetentionStart(), before);
+        for (Object[] row : minutes) {
+            LocalDateTime start = ((LocalDate) row[0]).atTime(((Number) row[1]).intValue(), ((Number) row[2]).intValue());
+            rollup.load(StatsGranularity.MINUTE, start, (Boolean) row[3], ((Number) row[4]).longValue());
+        }
+        log.info("Rollups de estadísticas cargados ({} horas, {} minutos)", hours.size(), minutes.size());
+    }
+
+    /**
+     * Registra un ADN recién insertado. No debe llamarse para hits de deduplicación.
+     *
+     * @param isMutant veredicto del registro insertado
+     */
+    public void recordNewDna(boolean isMutant) {
+        long stamp = snapshotLock.readLock();
+        try {
+            (isMutant ? mutantCount : humanCount).increment();
+        } finally {
+            snapshotLock.unlockRead(stamp);
+        }
+        rollup.record(isMutant);
+    }
 
     /**
      * Obtiene las estadísticas de verificaciones de ADN.
@@ -20,10 +131,94 @@ public class StatsService {
      * @return StatsResponse con contadores y ratio
      */
     public StatsResponse getStats() {
-        long countMutant = dnaRecordRepository.countByIsMutant(true);
-        long countHuman = dnaRecordRepository.countByIsMutant(false);
-        double ratio = countHuman == 0 ? 0.0 : (double) countMutant / countHuman;
+        long countMutant;
+        long countHuman;
+        long stamp = snapshotLock.writeLock();
+        try {
+            countMutant = mutantCount.sum();
+            countHuman = humanCount.sum();
+        } finally {
+            snapshotLock.unlockWrite(stamp);
+        }
+        return new StatsResponse(countMutant, countHuman, ratio(countMutant, countHuman));
+    }
+
+    /**
+     * Obtiene las estadísticas de una ventana de tiempo, agrupadas en buckets.
+     * No consulta la base de datos.
+     *
+     * @param from        inicio de la ventana (inclusivo)
+     * @param to          fin de la ventana (exclusivo); null para ahora
+     * @param granularity minute, hour o day; null para hour
+     * @return totales de la ventana y un bucket por cada intervalo con verificaciones;
+     *         from y to se amplían a los límites de los buckets que cubren los totales
+     * @throws InvalidStatsQueryException si los parámetros son inválidos
+     */
+    public StatsWindowResponse getStats(LocalDateTime from, LocalDateTime to, String granularity) {
+        StatsGranularity bucketSize = granularity == null
+                ? StatsGranularity.HOUR
+                : StatsGranularity.fromValue(granularity);
+        if (bucketSize == null) {
+            throw new InvalidStatsQueryException("granularity debe ser minute, hour o day");
+        }
+        if (from == null) {
+            throw new InvalidStatsQueryException("from es obligatorio");
+        }
+        LocalDateTime end = to != null ? to : rollup.now();
+        if (!from.isBefore(end)) {
+            throw new InvalidStatsQueryException("from debe ser anterior a to");
+        }
+        if (bucketSize == StatsGranularity.MINUTE && from.isBefore(rollup.minuteRetentionStart())) {
+            throw new InvalidStatsQueryException("granularity=minute solo está disponible para las últimas "
+                    + StatsRollup.MINUTE_RETENTION.toHours() + " horas");
+        }
+
+        // Los buckets se suman enteros: la ventana informada es la que cubren
+        LocalDateTime alignedFrom = StatsRollup.floor(from, bucketSize);
+        LocalDateTime alignedTo = StatsRollup.ceil(end, bucketSize);
+        List<StatsBucket> buckets = rollup.query(alignedFrom, alignedTo, bucketSize);
+        long countMutant = 0;
+        long countHuman = 0;
+        for (StatsBucket bucket : buckets) {
+            countMutant += bucket.getCountMutantDna();
+            countHuman += bucket.getCountHumanDna();
+        }
+        return new StatsWindowResponse(alignedFrom, alignedTo, bucketSize.value(), countMutant, countHuman,
+                ratio(countMutant, countHuman), buckets);
+    }
+
+    static double ratio(long countMutant, long countHuman) {
+        return countHuman == 0 ? 0.0 : (double) countMutant / countHuman;
+    }
+
+    /**
+     * Compara los contadores con la base de datos y corrige la diferencia.
+     * Si hubo inserciones mientras se contaba, la comparación no es confiable
+     * y se deja para la próxima ejecución.
+     */
+    @Scheduled(fixedDelayString = "${mutant.stats.reconcile-interval-ms:300000}",
+               initialDelayString = "${mutant.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        StatsResponse before = getStats();
+        long dbMutant = dnaRecordRepository.countByIsMutant(true);
+        long dbHuman = dnaRecordRepository.countByIsMutant(false);
 
-        return new StatsResponse(countMutant, countHuman, ratio);
+        long stamp = snapshotLock.writeLock();
+        try {
+            long countMutant = mutantCount.sum();
+            long countHuman = humanCount.sum();
+            if (countMutant != before.getCountMutantDna() || countHuman != before.getCountHumanDna()) {
+                log.debug("Conciliación de estadísticas omitida: hubo inserciones durante el conteo");
+                return;
+            }
+            if (countMutant != dbMutant || countHuman != dbHuman) {
+                log.warn("Contadores de estadísticas desfasados (mutantes {} vs {}, humanos {} vs {}); se corrigen",
+                        countMutant, dbMutant, countHuman, dbHuman);
+                mutantCount.add(dbMutant - countMutant);
+                humanCount.add(dbHuman - countHuman);
+            }
+        } finally {
+            snapshotLock.unlockWrite(stamp);
+        }
     }
 }
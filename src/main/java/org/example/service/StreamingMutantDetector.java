@@ -0,0 +1,168 @@
+package org.example.service;
+
+import java.util.Arrays;
+
+import org.example.validator.DnaAlphabet;
+
+/**
+ * Detector que recibe la matriz de ADN fila por fila, sin necesitarla completa.
+ * Por cada dirección mantiene la longitud de la racha que termina en cada celda
+ * (horizontal en una variable, vertical por columna y las dos diagonales en
+ * arreglos que se desplazan con cada fila), de modo que cada base se lee una
+ * sola vez y la memoria del escaneo es O(N): la fila anterior codificada y
+ * tres contadores por columna.
+ *
+ * <p>Una racha de longitud k ≥ 4 cuenta k - 3 secuencias: las mismas ventanas
+ * solapadas que cuenta el escaneo escalar desde cada celda de inicio.
+ *
+ * <p>{@link #isMutantFound()} pasa a true en cuanto aparece la segunda secuencia;
+ * desde ahí las filas restantes solo se validan. El veredicto definitivo es
+ * {@link #isMutant()}, que además exige las N filas válidas. No es thread-safe:
+ * se usa una instancia por matriz.
+ */
+public final class StreamingMutantDetector {
+
+    private static final int SEQUENCE_LENGTH = 4;
+
+    private final int n;
+    private final int limit;
+
+    /**
+     * Fila anterior codificada; INVALID nunca coincide con una base, lo que
+     * resuelve la primera fila y la columna extra de la derecha sin condiciones.
+     */
+    private final byte[] previous;
+    private final int[] vertical;
+    private final int[] diagonalDown;
+    private final int[] diagonalUp;
+
+    private int rows;
+    private int sequenceCount;
+    private boolean invalid;
+
+    /**
+     * @param n tamaño de la matriz (cantidad de filas y largo de cada fila)
+     */
+    public StreamingMutantDetector(int n) {
+        this(n, 2);
+    }
+
+    /**
+     * @param limit cantidad de secuencias a partir de la cual se deja de escanear
+     */
+    StreamingMutantDetector(int n, int limit) {
+        if (n < 1) {
+            throw new IllegalArgumentException("El tamaño de la matriz debe ser positivo: " + n);
+        }
+        this.n = n;
+        this.limit = limit;
+        this.previous = new byte[n + 1];
+        Arrays.fill(previous, DnaAlphabet.INVALID);
+        this.vertical = new int[n];
+        this.diagonalDown = new int[n];
+        this.diagonalUp = new int[n + 1];
+    }
+
+    /**
+     * Agrega la siguiente fila de la matriz.
+     *
+     * @param sequence fila de ADN
+     * @return false si la fila es inválida (largo distinto de N, base desconocida o
+     *         fila de más); desde ese momento el ADN queda inválido
+     */
+    public boolean acceptRow(String sequence) {
+        if (invalid || rows == n) {
+            invalid = true;
+            return false;
+        }
+        boolean valid = sequenceCount >= limit
+                ? DnaAlphabet.isValidRow(sequence, n)
+                : scanRow(sequence);
+        if (!valid) {
+            invalid = true;
+            return false;
+        }
+        rows++;
+        return true;
+    }
+
+    /**
+     * @return true si ya se encontraron dos secuencias (veredicto anticipado,
+     *         sujeto a que las filas restantes sean válidas)
+     */
+    public boolean isMutantFound() {
+        return !invalid && sequenceCount > 1;
+    }
+
+    /**
+     * @return true si se recibieron las N filas y todas son válidas
+     */
+    public boolean isComplete() {
+        return !invalid && rows == n;
+    }
+
+    /**
+     * @return veredicto definitivo: false si la matriz está incompleta o es inválida
+     */
+    public boolean isMutant() {
+        return isComplete() && sequenceCount > 1;
+    }
+
+    /**
+     * @return secuencias contadas hasta el momento (se detiene en el límite)
+     */
+    int sequenceCount() {
+        return sequenceCount;
+    }
+
+    private boolean scanRow(String sequence) {
+        if (sequence == null || sequence.length() != n) {
+            return false;
+        }
+
+        byte left = DnaAlphabet.INVALID;         // celda (row, col - 1)
+        byte upLeft = DnaAlphabet.INVALID;       // celda (row - 1, col - 1)
+        int horizontal = 0;
+        int downUpLeft = 0;                      // diagonalDown de (row - 1, col - 1)
+        int count = sequenceCount;
+
+        for (int col = 0; col < n; col++) {
+            byte code = DnaAlphabet.code(sequence.charAt(col));
+            if (code == DnaAlphabet.INVALID) {
+                return false;
+            }
+            byte up = previous[col];
+
+            horizontal = code == left ? horizontal + 1 : 1;
+            int verticalRun = code == up ? vertical[col] + 1 : 1;
+            int downRun = code == upLeft ? downUpLeft + 1 : 1;
+            // diagonalUp[col + 1] todavía es el de la fila anterior
+            int upRun = code == previous[col + 1] ? diagonalUp[col + 1] + 1 : 1;
+
+            downUpLeft = diagonalDown[col];
+            upLeft = up;
+            left = code;
+
+            vertical[col] = verticalRun;
+            diagonalDown[col] = downRun;
+            diagonalUp[col] = upRun;
+            previous[col] = code;
+
+            if (horizontal >= SEQUENCE_LENGTH) {
+                count++;
+            }
+            if (verticalRun >= SEQUENCE_LENGTH) {
+                count++;
+            }
+            if (downRun >= SEQUENCE_LENGTH) {
+                count++;
+            }
+            if (upRun >= SEQUENCE_LENGTH) {
+                count++;
+            }
+        }
+
+        sequenceCount = count;
+        return true;
+    }
+}
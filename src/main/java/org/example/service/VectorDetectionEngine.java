@@ -0,0 +1,139 @@
+package org.example.service;
+
+import java.util.Arrays;
+
+import org.example.validator.DnaAlphabet;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Motor de detección SIMD basado en {@code jdk.incubator.vector}.
+ * Compara carriles completos de la fila {@code r} contra las filas {@code r+1..r+3}
+ * con desplazamientos de columna 0, +1..+3 y -1..-3, cubriendo vertical y ambas
+ * diagonales (y la horizontal contra la misma fila) con pocas operaciones por franja.
+ *
+ * <p>Requiere {@code --add-modules jdk.incubator.vector}; {@link MutantDetector}
+ * lo instancia por reflexión y vuelve al escaneo escalar si el módulo no está.
+ */
+public class VectorDetectionEngine implements DetectionEngine {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int SEQUENCE_LENGTH = 4;
+
+    /**
+     * Relleno de las columnas fuera de la matriz; nunca coincide con una base.
+     */
+    private static final byte PADDING = DnaAlphabet.INVALID;
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        if (dna == null || dna.length == 0) {
+            return false;
+        }
+
+        final int n = dna.length;
+        final int lanes = SPECIES.length();
+        // Cada fila se rellena con un vector completo + 3 columnas para que las
+        // cargas de la última franja, desplazadas hasta +3, nunca salgan del array
+        final int stride = n + lanes + SEQUENCE_LENGTH - 1;
+        byte[] matrix = encode(dna, stride);
+        if (matrix == null) {
+            return false;
+        }
+
+        final int forwardLimit = n - SEQUENCE_LENGTH + 1;
+        int sequenceCount = 0;
+
+        for (int row = 0; row < n; row++) {
+            final int r0 = row * stride;
+
+            // Horizontal: la fila contra sí misma desplazada +1..+3
+            for (int col = 0; col < forwardLimit; col += lanes) {
+                VectorMask<Byte> valid = SPECIES.indexInRange(col, forwardLimit);
+                ByteVector base = ByteVector.fromArray(SPECIES, matrix, r0 + col);
+                sequenceCount += base.eq(ByteVector.fromArray(SPECIES, matrix, r0 + col + 1))
+                        .and(base.eq(ByteVector.fromArray(SPECIES, matrix, r0 + col + 2)))
+                        .and(base.eq(ByteVector.fromArray(SPECIES, matrix, r0 + col + 3)))
+                        .and(valid)
+                        .trueCount();
+            }
+            if (sequenceCount > 1) {
+                return true;
+            }
+
+            if (row > n - SEQUENCE_LENGTH) {
+                continue;
+            }
+
+            final int r1 = r0 + stride;
+            final int r2 = r1 + stride;
+            final int r3 = r2 + stride;
+
+            // Vertical (|) y diagonal descendente (\)
+            for (int col = 0; col < n; col += lanes) {
+                ByteVector base = ByteVector.fromArray(SPECIES, matrix, r0 + col);
+
+                sequenceCount += base.eq(ByteVector.fromArray(SPECIES, matrix, r1 + col))
+                        .and(base.eq(ByteVector.fromArray(SPECIES, matrix, r2 + col)))
+                        .and(base.eq(ByteVector.fromArray(SPECIES, matrix, r3 + col)))
+                        .and(SPECIES.indexInRange(col, n))
+                        .trueCount();
+
+                if (col < forwardLimit) {
+                    sequenceCount += base.eq(ByteVector.fromArray(SPECIES, matrix, r1 + col + 1))
+                            .and(base.eq(ByteVector.fromArray(SPECIES, matrix, r2 + col + 2)))
+                            .and(base.eq(ByteVector.fromArray(SPECIES, matrix, r3 + col + 3)))
+                            .and(SPECIES.indexInRange(col, forwardLimit))
+                            .trueCount();
+                }
+            }
+
+            // Diagonal ascendente (/): empieza en la columna 3 para no leer antes de la fila
+            for (int col = SEQUENCE_LENGTH - 1; col < n; col += lanes) {
+                ByteVector base = ByteVector.fromArray(SPECIES, matrix, r0 + col);
+                sequenceCount += base.eq(ByteVector.fromArray(SPECIES, matrix, r1 + col - 1))
+                        .and(base.eq(ByteVector.fromArray(SPECIES, matrix, r2 + col - 2)))
+                        .and(base.eq(ByteVector.fromArray(SPECIES, matrix, r3 + col - 3)))
+                        .and(SPECIES.indexInRange(col, n))
+                        .trueCount();
+            }
+
+            if (sequenceCount > 1) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Valida y copia el ADN a un byte[] plano con filas de ancho {@code stride}.
+     *
+     * @return matriz plana, o null si el ADN es inválido
+     */
+    private static byte[] encode(String[] dna, int stride) {
+        final int n = dna.length;
+        byte[] matrix = new byte[n * stride];
+        Arrays.fill(matrix, PADDING);
+
+        for (int row = 0; row < n; row++) {
+            String sequence = dna[row];
+            if (sequence == null || sequence.length() != n) {
+                return null;
+            }
+
+            final int offset = row * stride;
+            for (int col = 0; col < n; col++) {
+                byte code = DnaAlphabet.code(sequence.charAt(col));
+                if (code == DnaAlphabet.INVALID) {
+                    return null;
+                }
+                matrix[offset + col] = code;
+            }
+        }
+
+        return matrix;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.service;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caché en memoria de veredictos por hash de ADN, delante de
+ * {@code DnaRecordRepository.findByDnaHash}.
+ * Caffeine usa desalojo W-TinyLFU por tamaño; los contadores de hits, misses y
+ * desalojos se publican en Micrometer como {@code cache.*{cache=dnaVerdicts}}.
+ */
+@Component
+public class VerdictCache {
+
+    static final String CACHE_NAME = "dnaVerdicts";
+
+    /**
+     * null si la caché está deshabilitada (capacidad 0).
+     */
+    private final Cache<DnaHash, Boolean> cache;
+
+    public VerdictCache(MeterRegistry meterRegistry,
+                        @Value("${mutant.cache.capacity:100000}") long capacity) {
+        if (capacity <= 0) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(capacity)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @param dnaHash hash del ADN
+     * @return veredicto si está en caché
+     */
+    public Optional<Boolean> get(DnaHash dnaHash) {
+        if (cache == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(dnaHash));
+    }
+
+    /**
+     * Registra el veredicto de un ADN ya persistido o recién analizado.
+     */
+    public void put(DnaHash dnaHash, boolean isMutant) {
+        if (cache != null) {
+            cache.put(dnaHash, isMutant);
+        }
+    }
+
+    /**
+     * Quita el veredicto de un ADN que no llegó a persistirse.
+     */
+    public void invalidate(DnaHash dnaHash) {
+        if (cache != null) {
+            cache.invalidate(dnaHash);
+        }
+    }
+
+    /**
+     * @return cantidad aproximada de entradas
+     */
+    public long size() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    /**
+     * Ejecuta el mantenimiento pendiente (desalojos) de forma inmediata.
+     */
+    void cleanUp() {
+        if (cache != null) {
+            cache.cleanUp();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.validator;
+
+import java.util.Arrays;
+
+/**
+ * Tabla de búsqueda de 256 entradas para las bases de ADN.
+ * Reemplaza {@code Set<Character>} (que boxea cada base) por un acceso directo
+ * a un byte[] y devuelve el código de 2 bits de la base en la misma operación.
+ */
+public final class DnaAlphabet {
+
+    /**
+     * Código devuelto para cualquier carácter que no sea A, C, G o T.
+     */
+    public static final byte INVALID = -1;
+
+    private static final byte[] CODES = new byte[256];
+
+    static {
+        Arrays.fill(CODES, INVALID);
+        CODES['A'] = 0;
+        CODES['C'] = 1;
+        CODES['G'] = 2;
+        CODES['T'] = 3;
+    }
+
+    private DnaAlphabet() {
+    }
+
+    /**
+     * @return código 0..3 de la base (A, C, G, T) o {@link #INVALID}
+     */
+    public static byte code(char base) {
+        return base < CODES.length ? CODES[base] : INVALID;
+    }
+
+    /**
+     * Verifica que la fila tenga longitud {@code n} y solo bases válidas, sin copiar la String.
+     */
+    public static boolean isValidRow(String sequence, int n) {
+        if (sequence == null || sequence.length() != n) {
+            return false;
+        }
+
+        for (int col = 0; col < n; col++) {
+            if (code(sequence.charAt(col)) == INVALID) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Valida y codifica una fila en un único recorrido.
+     *
+     * @return códigos 0..3 de cada base, o null si la fila es inválida
+     */
+    public static byte[] encodeRow(String sequence, int n) {
+        if (sequence == null || sequence.length() != n) {
+            return null;
+        }
+
+        byte[] codes = new byte[n];
+        for (int col = 0; col < n; col++) {
+            byte code = code(sequence.charAt(col));
+            if (code == INVALID) {
+                return null;
+            }
+            codes[col] = code;
+        }
+        return codes;
+    }
+}
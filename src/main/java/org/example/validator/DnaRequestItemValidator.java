@@ -0,0 +1,40 @@
+package org.example.validator;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.example.dto.DnaRequest;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Valida items de ADN que no pasan por el binding con {@code @Valid} (lotes y
+ * streams), aplicando las mismas restricciones de {@link DnaRequest}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DnaRequestItemValidator {
+
+    private final Validator validator;
+
+    /**
+     * @param request item a validar
+     * @return mensajes de validación del item, o null si es válido
+     */
+    public String validate(DnaRequest request) {
+        if (request == null) {
+            return "El ADN no puede ser nulo";
+        }
+        Set<ConstraintViolation<DnaRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -1,20 +1,53 @@
 package org.example.validator;
 
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.Set;
-
 /**
  * Implementación del validador para secuencias de ADN.
+ * La duración de cada validación se publica como {@code dna.validation{result}}.
  */
 public class DnaSequenceValidator implements ConstraintValidator<ValidDnaSequence, String[]> {
 
-    private static final Set<Character> VALID_BASES = Set.of('A', 'T', 'C', 'G');
     private static final int MIN_SIZE = 4;  // Tamaño mínimo para formar secuencias de 4
 
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    /**
+     * Fuera de Spring (Hibernate Validator sin contenedor) se usa el registro global.
+     */
+    public DnaSequenceValidator() {
+        this(Metrics.globalRegistry);
+    }
+
+    @Autowired
+    public DnaSequenceValidator(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    private DnaSequenceValidator(MeterRegistry meterRegistry) {
+        this.validTimer = validationTimer(meterRegistry, "valid");
+        this.invalidTimer = validationTimer(meterRegistry, "invalid");
+    }
+
     @Override
     public boolean isValid(String[] dna, ConstraintValidatorContext context) {
+        long start = System.nanoTime();
+        boolean valid = isValidMatrix(dna);
+        (valid ? validTimer : invalidTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return valid;
+    }
+
+    private static boolean isValidMatrix(String[] dna) {
         if (dna == null || dna.length == 0) {
             return false;
         }
@@ -26,20 +59,21 @@ public class DnaSequenceValidator implements ConstraintValidator<ValidDnaSequenc
             return false;
         }
 
-        // Verificar que sea matriz cuadrada NxN
+        // Verificar que sea matriz cuadrada NxN con caracteres válidos
+        // (tabla de búsqueda, sin copiar cada fila ni boxear cada base)
         for (String sequence : dna) {
-            if (sequence == null || sequence.length() != n) {
+            if (!DnaAlphabet.isValidRow(sequence, n)) {
                 return false;
             }
-
-            // Verificar caracteres válidos
-            for (char base : sequence.toCharArray()) {
-                if (!VALID_BASES.contains(base)) {
-                    return false;
-                }
-            }
         }
 
         return true;
     }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("dna.validation")
+                .description("Validación de la matriz de ADN")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 }
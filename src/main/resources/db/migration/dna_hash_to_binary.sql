@@ -0,0 +1,37 @@
+-- Migración de dna_records.dna_hash de VARCHAR(64) hexadecimal a BINARY(32).
+-- Solo es necesaria para bases persistentes creadas antes del cambio
+-- (con ddl-auto=create-drop la tabla se recrea en cada arranque).
+-- Ejecutar con la aplicación detenida, por ejemplo con org.h2.tools.RunScript.
+
+ALTER TABLE dna_records ADD COLUMN dna_hash_bin BINARY(32);
+
+-- H2 2.x no tiene una conversión directa de hexadecimal a binario: HEXTORAW
+-- interpreta cada grupo de 4 dígitos como un carácter UTF-16, cuyo código
+-- (ASCII) se reconvierte a los 2 bytes originales.
+UPDATE dna_records SET dna_hash_bin = CAST(
+       SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 1, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 5, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 9, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 13, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 17, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 21, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 25, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 29, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 33, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 37, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 41, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 45, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 49, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 53, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 57, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    || SUBSTRING(CAST(ASCII(HEXTORAW(SUBSTRING(dna_hash, 61, 4))) AS BINARY(4)) FROM 3 FOR 2)
+    AS BINARY(32));
+
+ALTER TABLE dna_records ALTER COLUMN dna_hash_bin SET NOT NULL;
+
+-- Elimina también la restricción única de la columna hexadecimal
+ALTER TABLE dna_records DROP COLUMN dna_hash;
+
+ALTER TABLE dna_records ALTER COLUMN dna_hash_bin RENAME TO dna_hash;
+
+ALTER TABLE dna_records ADD CONSTRAINT uk_dna_records_dna_hash UNIQUE (dna_hash);
@@ -0,0 +1,6 @@
+-- Índice sobre dna_records.created_at para la reconstrucción de los rollups de
+-- estadísticas por ventana de tiempo (GET /stats?from=&to=&granularity=).
+-- Solo es necesario para bases persistentes creadas antes del cambio
+-- (con ddl-auto=create-drop la tabla se recrea en cada arranque).
+
+CREATE INDEX IF NOT EXISTS idx_dna_records_created_at ON dna_records (created_at);
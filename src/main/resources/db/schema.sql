@@ -0,0 +1,15 @@
+-- Esquema de dna_records para bases persistentes (perfil prod). Se ejecuta en
+-- cada arranque: solo crea lo que falta y nunca borra datos. Hibernate valida
+-- después que coincida con la entidad DnaRecord (ddl-auto=validate).
+-- Las bases creadas con versiones anteriores se actualizan con db/migration.
+
+CREATE TABLE IF NOT EXISTS dna_records (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    dna_hash        BINARY(32) NOT NULL,
+    dna_fingerprint BLOB,
+    is_mutant       BOOLEAN NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_dna_records_dna_hash UNIQUE (dna_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_dna_records_created_at ON dna_records (created_at);
@@ -0,0 +1,100 @@
+package org.example.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.example.service.BitPackedDetectionEngine;
+import org.example.service.Dna2BitFormat;
+import org.example.service.PackedDna;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests del cliente x-dna2bit contra un servidor HTTP local que decodifica el
+ * cuerpo como lo hace la API.
+ */
+@DisplayName("MutantApiClient - Tests de Ida y Vuelta")
+class MutantApiClientTest {
+
+    private static final String[] MUTANT_DNA = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+    private static final String[] HUMAN_DNA = {"ATGCGA", "CAGTGC", "TTATTT", "AGACGG", "GCGTCA", "TCACTG"};
+
+    private final BitPackedDetectionEngine engine = new BitPackedDetectionEngine();
+    private final AtomicReference<String> contentType = new AtomicReference<>();
+    private final AtomicReference<PackedDna> received = new AtomicReference<>();
+
+    private HttpServer server;
+    private MutantApiClient client;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/mutant", exchange -> {
+            contentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+            PackedDna dna = Dna2BitFormat.decode(exchange.getRequestBody().readAllBytes());
+            received.set(dna);
+
+            int status = dna == null ? 400 : engine.isMutantPacked(dna) ? 200 : 403;
+            byte[] body = dna == null ? "ADN inválido".getBytes(StandardCharsets.UTF_8) : new byte[0];
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        client = new MutantApiClient(URI.create("http://127.0.0.1:" + server.getAddress().getPort()));
+    }
+
+    @AfterEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente después de cada test
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Envía el ADN en x-dna2bit y el servidor recibe la misma matriz")
+    void testRoundTrip() throws Exception {
+        // Act
+        boolean mutant = client.isMutant(MUTANT_DNA);
+
+        // Assert
+        assertTrue(mutant);
+        assertEquals(Dna2BitFormat.MEDIA_TYPE_VALUE, contentType.get());
+        assertArrayEquals(MUTANT_DNA, received.get().toRows());
+    }
+
+    @Test
+    @DisplayName("Devuelve false cuando la API responde 403")
+    void testHuman() throws Exception {
+        assertFalse(client.isMutant(HUMAN_DNA));
+        assertArrayEquals(HUMAN_DNA, received.get().toRows());
+    }
+
+    @Test
+    @DisplayName("No envía ADN inválido y reporta respuestas inesperadas")
+    void testErrors() {
+        assertThrows(IllegalArgumentException.class, () -> client.isMutant(new String[]{"AC", "GT"}));
+
+        server.removeContext("/mutant");
+        server.createContext("/mutant", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        IOException error = assertThrows(IOException.class, () -> client.isMutant(MUTANT_DNA));
+        assertTrue(error.getMessage().contains("500"));
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.example.dto.DnaRequest;
+import org.example.dto.StreamedDnaRequest;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests unitarios para PackedDnaHttpMessageConverter.
+ */
+@DisplayName("PackedDnaHttpMessageConverter - Tests Unitarios")
+class PackedDnaHttpMessageConverterTest {
+
+    private static final String[] MUTANT_DNA = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+
+    private final PackedDnaHttpMessageConverter converter = new PackedDnaHttpMessageConverter(new ObjectMapper());
+
+    // ==================== PARSEO DIRECTO ====================
+
+    @Test
+    @DisplayName("Parsea el cuerpo habitual directamente a bases empaquetadas")
+    void testParsesPlainBody() throws Exception {
+        // Act
+        StreamedDnaRequest request = read(" {\n  \"dna\" : [ \"ATGCGA\",\"CAGTGC\",\"TTATGT\",\n"
+                + "\"AGAAGG\", \"CCCCTA\", \"TCACTG\" ]\n}\n");
+
+        // Assert
+        assertNull(request.getDna());
+        assertNotNull(request.getPackedDna());
+        assertArrayEquals(MUTANT_DNA, request.getPackedDna().toRows());
+    }
+
+    @Test
+    @DisplayName("No reconoce cuerpos fuera de la forma habitual o con ADN inválido")
+    void testParseRejectsOtherShapes() {
+        String[] bodies = {
+            "{\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\"]}",
+            "{\"dna\":[\"ATG\",\"CAG\",\"TTA\"]}",
+            "{\"dna\":[\"ATGC\",\"CAXT\",\"TTAT\",\"AGAC\"]}",
+            "{\"dna\":[\"ATGC\",\"CA\\u0047T\",\"TTAT\",\"AGAC\"]}",
+            "{\"dna\":[\"ATGC\",null,\"TTAT\",\"AGAC\"]}",
+            "{\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"],\"id\":1}",
+            "{\"id\":1,\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"]}",
+            "{\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"]",
+            "{\"dna\":[]}",
+            "{\"dna\":[\"" + "A".repeat(1000) + "\"]}",
+            ""
+        };
+        for (String body : bodies) {
+            assertNull(PackedDnaHttpMessageConverter.parse(body.getBytes(StandardCharsets.UTF_8)), body);
+        }
+    }
+
+    // ==================== FALLBACK A JACKSON ====================
+
+    @Test
+    @DisplayName("Deserializa con Jackson los cuerpos que no reconoce")
+    void testFallsBackToJackson() throws Exception {
+        // Act
+        StreamedDnaRequest escaped = read("{\"dna\":[\"ATGC\",\"CA\\u0047T\",\"TTAT\",\"AGAC\"]}");
+        StreamedDnaRequest invalid = read("{\"dna\":[\"ATGC\",\"CAXT\",\"TTAT\"]}");
+
+        // Assert
+        assertNull(escaped.getPackedDna());
+        assertArrayEquals(new String[]{"ATGC", "CAGT", "TTAT", "AGAC"}, escaped.getDna());
+        assertNull(invalid.getPackedDna());
+        assertEquals(3, invalid.getDna().length);
+    }
+
+    @Test
+    @DisplayName("JSON mal formado se informa como cuerpo ilegible")
+    void testMalformedJson() {
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"dna\":[\"ATGC\""));
+    }
+
+    @Test
+    @DisplayName("Solo lee el DnaRequest de POST /mutant y nunca escribe")
+    void testSupportedTypes() {
+        assertFalse(converter.canRead(String.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(DnaRequest.class, MediaType.APPLICATION_JSON));
+        assertEquals(true, converter.canRead(DnaRequest.class, MediaType.APPLICATION_JSON));
+    }
+
+    private StreamedDnaRequest read(String body) throws Exception {
+        MockHttpInputMessage message = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return (StreamedDnaRequest) converter.read(DnaRequest.class, message);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.config;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.example.repository.DnaRecordRepository;
+import org.example.service.DnaRecordWriter;
+import org.example.service.MutantService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tests de integración del perfil perf: pool fijo sin autocommit y persistencia
+ * en batches desde la cola de write-behind.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:perfdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("perf")
+@DisplayName("Perfil perf - Tests de Integración")
+class PerfProfileTest {
+
+    private static final String[] MUTANT_DNA = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MutantService mutantService;
+
+    @Autowired
+    private DnaRecordRepository dnaRecordRepository;
+
+    @Autowired
+    private DnaRecordWriter dnaRecordWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("El pool de conexiones es fijo y entrega conexiones sin autocommit")
+    void testPoolConfiguration() {
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+
+        assertEquals(16, hikari.getMaximumPoolSize());
+        assertEquals(16, hikari.getMinimumIdle());
+        assertFalse(hikari.isAutoCommit());
+        assertEquals(2_000, hikari.getConnectionTimeout());
+    }
+
+    @Test
+    @DisplayName("Analiza y persiste por la cola de write-behind, con métricas del pool")
+    void testAnalyzeWithWriteBehind() throws InterruptedException {
+        // Act
+        boolean isMutant = mutantService.analyzeDna(MUTANT_DNA);
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (dnaRecordRepository.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertTrue(isMutant);
+        assertTrue(dnaRecordWriter.isEnabled());
+        assertEquals(1, dnaRecordRepository.count());
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "mutant-db").timer());
+        assertNotNull(meterRegistry.find("hikaricp.connections.usage").tag("pool", "mutant-db").timer());
+    }
+}
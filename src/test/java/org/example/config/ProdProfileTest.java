@@ -0,0 +1,90 @@
+package org.example.config;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.example.MutantDetectorApplication;
+import org.example.dto.StatsResponse;
+import org.example.repository.DnaRecordRepository;
+import org.example.service.DnaBloomFilter;
+import org.example.service.MutantService;
+import org.example.service.StartupLoader;
+import org.example.service.StatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Tests de integración del perfil prod: H2 en archivo que sobrevive a un reinicio.
+ */
+@DisplayName("Perfil prod - Tests de Integración")
+class ProdProfileTest {
+
+    private static final String[] MUTANT_DNA = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+    private static final String[] HUMAN_DNA = {"ATGCGA", "CAGTGC", "TTATTT", "AGACGG", "GCGTCA", "TCACTG"};
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("Los registros y las estadísticas sobreviven a un reinicio")
+    void testDataSurvivesRestart() {
+        // Arrange
+        try (ConfigurableApplicationContext context = start(false)) {
+            MutantService mutantService = context.getBean(MutantService.class);
+            assertTrue(mutantService.analyzeDna(MUTANT_DNA));
+            mutantService.analyzeDna(HUMAN_DNA);
+        }
+        assertTrue(Files.exists(dataDir.resolve("mutantdb.mv.db")));
+
+        // Act
+        try (ConfigurableApplicationContext context = start(false)) {
+            StatsResponse stats = context.getBean(StatsService.class).getStats();
+
+            // Assert
+            assertEquals(2, context.getBean(DnaRecordRepository.class).count());
+            assertEquals(1L, stats.getCountMutantDna());
+            assertEquals(1L, stats.getCountHumanDna());
+            assertTrue(context.getBean(MutantService.class).analyzeDna(MUTANT_DNA));
+            assertEquals(2, context.getBean(DnaRecordRepository.class).count());
+        }
+    }
+
+    @Test
+    @DisplayName("Con carga asíncrona las estadísticas y el filtro de Bloom se completan en segundo plano")
+    void testAsyncStartupLoad() throws InterruptedException {
+        // Arrange
+        try (ConfigurableApplicationContext context = start(false)) {
+            context.getBean(MutantService.class).analyzeDna(MUTANT_DNA);
+        }
+
+        // Act
+        try (ConfigurableApplicationContext context = start(true)) {
+            StartupLoader startupLoader = context.getBean(StartupLoader.class);
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (startupLoader.pending() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // Assert
+            assertEquals(0, startupLoader.pending());
+            assertTrue(context.getBean(DnaBloomFilter.class).isReady());
+            assertEquals(1L, context.getBean(StatsService.class).getStats().getCountMutantDna());
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean asyncLoad) {
+        return new SpringApplicationBuilder(MutantDetectorApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .run("--MUTANT_DB_PATH=" + dataDir.resolve("mutantdb"),
+                        "--mutant.startup.async-load=" + asyncLoad,
+                        "--mutant.bloom.expected-insertions=1000",
+                        "--logging.level.org.example=WARN");
+    }
+}
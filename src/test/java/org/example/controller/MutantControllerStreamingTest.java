@@ -0,0 +1,80 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.DnaRequest;
+import org.example.service.MutantService;
+import org.example.service.MutantStreamService;
+import org.example.validator.DnaRequestItemValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración de POST /mutant con {@code mutant.detector.streaming.enabled=true}.
+ */
+@WebMvcTest(controllers = MutantController.class, properties = "mutant.detector.streaming.enabled=true")
+@Import(DnaRequestItemValidator.class)
+@DisplayName("MutantController con escaneo en streaming - Tests de Integración")
+class MutantControllerStreamingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private MutantService mutantService;
+
+    @MockBean
+    private MutantStreamService mutantStreamService;
+
+    @Test
+    @DisplayName("POST /mutant pasa al servicio el veredicto calculado durante el parseo")
+    void testPostMutantUsesStreamedVerdict() throws Exception {
+        // Arrange
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+        when(mutantService.analyzeDna(any(), eq(true))).thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new DnaRequest(dna))))
+                .andExpect(status().isOk());
+
+        verify(mutantService).analyzeDna(any(), eq(true));
+    }
+
+    @Test
+    @DisplayName("POST /mutant rechaza el ADN inválido con la misma validación de @Valid")
+    void testPostMutantValidatesWithBeanValidation() throws Exception {
+        // Arrange
+        DnaRequest request = new DnaRequest(new String[]{"ATGC", "CAXT", "TTAT", "AGAC"});
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertInstanceOf(MethodArgumentNotValidException.class,
+                        result.getResolvedException()));
+
+        verify(mutantService, never()).analyzeDna(any(), anyBoolean());
+    }
+}
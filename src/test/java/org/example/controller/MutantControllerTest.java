@@ -2,24 +2,42 @@ package org.example.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.dto.DnaRequest;
+import org.example.service.Dna2BitFormat;
 import org.example.service.MutantService;
+import org.example.service.MutantStreamService;
+import org.example.validator.DnaRequestItemValidator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * Tests de integración para MutantController.
  */
 @WebMvcTest(MutantController.class)
+@Import(DnaRequestItemValidator.class)
 @DisplayName("MutantController - Tests de Integración")
 class MutantControllerTest {
 
@@ -32,6 +50,9 @@ class MutantControllerTest {
     @MockBean
     private MutantService mutantService;
 
+    @MockBean
+    private MutantStreamService mutantStreamService;
+
     @Test
     @DisplayName("POST /mutant retorna 200 OK para mutante")
     void testPostMutantReturns200ForMutant() throws Exception {
@@ -144,6 +165,25 @@ class MutantControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("POST /mutant rechaza el ADN inválido con la validación de @Valid")
+    void testPostMutantValidatesWithBeanValidation() throws Exception {
+        // Arrange
+        DnaRequest request = new DnaRequest(new String[]{"ATGC", "CAGT", "TTAT"});
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertInstanceOf(MethodArgumentNotValidException.class,
+                        result.getResolvedException()))
+                .andExpect(jsonPath("$.message").value(
+                        "Secuencia de ADN inválida. Debe ser una matriz NxN con caracteres A, T, C, G únicamente"));
+
+        verify(mutantService, never()).analyzeDna(any());
+    }
+
     @Test
     @DisplayName("POST /mutant acepta ADN mutante válido con letras mayúsculas")
     void testPostMutantAcceptsValidUppercaseDna() throws Exception {
@@ -209,4 +249,112 @@ class MutantControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isInternalServerError());
     }
+
+    // ==================== POST /mutant (x-dna2bit) ====================
+
+    @Test
+    @DisplayName("POST /mutant acepta el formato binario x-dna2bit")
+    void testPostMutantAcceptsDna2Bit() throws Exception {
+        // Arrange
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+        when(mutantService.analyzePackedDna(any())).thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant")
+                .contentType(Dna2BitFormat.MEDIA_TYPE_VALUE)
+                .content(Dna2BitFormat.encode(dna)))
+                .andExpect(status().isOk());
+
+        verify(mutantService).analyzePackedDna(argThat(packed -> Arrays.equals(dna, packed.toRows())));
+        verify(mutantService, never()).analyzeDna(any());
+    }
+
+    @Test
+    @DisplayName("POST /mutant retorna 400 Bad Request para un cuerpo x-dna2bit inválido")
+    void testPostMutantReturns400ForInvalidDna2Bit() throws Exception {
+        mockMvc.perform(post("/mutant")
+                .contentType(Dna2BitFormat.MEDIA_TYPE_VALUE)
+                .content(new byte[]{0, 0, 0, 4, 0, 0}))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+
+        verify(mutantService, never()).analyzePackedDna(any());
+    }
+
+    // ==================== POST /mutant/batch ====================
+
+    @Test
+    @DisplayName("POST /mutant/batch retorna un veredicto por item en el mismo orden")
+    void testPostBatchReturnsVerdictPerItem() throws Exception {
+        // Arrange
+        String[] mutantDna = {"AAAA", "CCCC", "TATA", "GAGA"};
+        String[] humanDna = {"ATGC", "CAGT", "TTAT", "AGAC"};
+        List<DnaRequest> requests = List.of(new DnaRequest(mutantDna), new DnaRequest(humanDna));
+
+        when(mutantService.analyzeDnaBatch(anyList())).thenReturn(List.of(true, false));
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].mutant").value(true))
+                .andExpect(jsonPath("$[1].mutant").value(false))
+                .andExpect(jsonPath("$[0].error").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /mutant/batch informa los items inválidos sin analizarlos")
+    void testPostBatchReportsInvalidItems() throws Exception {
+        // Arrange
+        String[] mutantDna = {"AAAA", "CCCC", "TATA", "GAGA"};
+        String[] invalidDna = {"AAAX", "CCCC", "TATA", "GAGA"};
+        List<DnaRequest> requests = List.of(new DnaRequest(invalidDna), new DnaRequest(mutantDna));
+
+        when(mutantService.analyzeDnaBatch(anyList())).thenReturn(List.of(true));
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].mutant").doesNotExist())
+                .andExpect(jsonPath("$[0].error").exists())
+                .andExpect(jsonPath("$[1].mutant").value(true));
+
+        verify(mutantService).analyzeDnaBatch(argThat(dnas -> dnas.size() == 1 && dnas.get(0)[0].equals("AAAA")));
+    }
+
+    @Test
+    @DisplayName("POST /mutant/batch retorna 400 Bad Request para lote vacío")
+    void testPostBatchReturns400ForEmptyBatch() throws Exception {
+        mockMvc.perform(post("/mutant/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(mutantService, never()).analyzeDnaBatch(anyList());
+    }
+
+    // ==================== POST /mutant/stream ====================
+
+    @Test
+    @DisplayName("POST /mutant/stream responde NDJSON delegando el cuerpo al servicio de streaming")
+    void testPostStreamWritesNdjson() throws Exception {
+        // Arrange
+        when(mutantStreamService.analyze(any(), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(1);
+            output.write("{\"mutant\":true}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"dna\":[\"AAAA\",\"CCCC\",\"TATA\",\"GAGA\"]}\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"mutant\":true}\n"));
+    }
 }
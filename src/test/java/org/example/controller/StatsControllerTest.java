@@ -1,6 +1,12 @@
 package org.example.controller;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.dto.StatsBucket;
 import org.example.dto.StatsResponse;
+import org.example.dto.StatsWindowResponse;
+import org.example.exception.InvalidStatsQueryException;
 import org.example.service.StatsService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +15,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -83,4 +93,44 @@ class StatsControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"));
     }
+
+    // ==================== VENTANAS DE TIEMPO ====================
+
+    @Test
+    @DisplayName("GET /stats?from=&to=&granularity= retorna los buckets de la ventana")
+    void testGetWindowedStats() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2024, 1, 15, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 16, 0, 0);
+        StatsWindowResponse stats = new StatsWindowResponse(from, to, "hour", 4L, 10L, 0.4,
+                List.of(new StatsBucket(LocalDateTime.of(2024, 1, 15, 10, 0), 4L, 10L, 0.4)));
+        when(statsService.getStats(from, to, "hour")).thenReturn(stats);
+
+        // Act & Assert
+        mockMvc.perform(get("/stats")
+                .param("from", "2024-01-15T00:00:00")
+                .param("to", "2024-01-16T00:00:00")
+                .param("granularity", "hour"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("hour"))
+                .andExpect(jsonPath("$.count_mutant_dna").value(4))
+                .andExpect(jsonPath("$.buckets[0].start").value("2024-01-15T10:00:00"))
+                .andExpect(jsonPath("$.buckets[0].count_human_dna").value(10));
+        verify(statsService, never()).getStats();
+    }
+
+    @Test
+    @DisplayName("GET /stats retorna 400 Bad Request para parámetros de ventana inválidos")
+    void testGetWindowedStatsReturns400() throws Exception {
+        // Arrange
+        when(statsService.getStats(any(), any(), eq("week")))
+                .thenThrow(new InvalidStatsQueryException("granularity debe ser minute, hour o day"));
+
+        // Act & Assert
+        mockMvc.perform(get("/stats").param("from", "2024-01-15T00:00:00").param("granularity", "week"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("granularity debe ser minute, hour o day"));
+        mockMvc.perform(get("/stats").param("from", "ayer"))
+                .andExpect(status().isBadRequest());
+    }
 }
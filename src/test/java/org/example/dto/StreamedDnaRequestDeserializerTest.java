@@ -0,0 +1,143 @@
+package org.example.dto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * Tests unitarios para StreamedDnaRequestDeserializer.
+ */
+@DisplayName("StreamedDnaRequestDeserializer - Tests Unitarios")
+class StreamedDnaRequestDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Deserializa el ADN y calcula el veredicto mutante durante el parseo")
+    void testMutantVerdict() throws Exception {
+        // Act
+        StreamedDnaRequest request = objectMapper.readValue(
+                "{\"dna\":[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]}",
+                StreamedDnaRequest.class);
+
+        // Assert
+        assertArrayEquals(new String[]{"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"},
+                request.getDna());
+        assertEquals(Boolean.TRUE, request.getStreamedVerdict());
+    }
+
+    @Test
+    @DisplayName("Calcula el veredicto humano e ignora campos desconocidos")
+    void testHumanVerdictWithUnknownFields() throws Exception {
+        // Act
+        StreamedDnaRequest request = objectMapper.readValue(
+                "{\"id\":{\"x\":[1,2]},\"dna\":[\"ATGCGA\",\"CAGTGC\",\"TTATTT\",\"AGACGG\",\"GCGTCA\",\"TCACTG\"]}",
+                StreamedDnaRequest.class);
+
+        // Assert
+        assertEquals(6, request.getDna().length);
+        assertEquals(Boolean.FALSE, request.getStreamedVerdict());
+    }
+
+    @Test
+    @DisplayName("Conserva el ADN inválido sin veredicto para que lo rechace la validación")
+    void testInvalidDnaHasNoVerdict() throws Exception {
+        // Act
+        StreamedDnaRequest notSquare = objectMapper.readValue(
+                "{\"dna\":[\"AAAA\",\"CCCC\",\"GGGG\"]}", StreamedDnaRequest.class);
+        StreamedDnaRequest nullRow = objectMapper.readValue(
+                "{\"dna\":[\"AAAA\",null,\"GGGG\",\"TTTT\"]}", StreamedDnaRequest.class);
+        StreamedDnaRequest empty = objectMapper.readValue("{\"dna\":[]}", StreamedDnaRequest.class);
+        StreamedDnaRequest nullDna = objectMapper.readValue("{\"dna\":null}", StreamedDnaRequest.class);
+
+        // Assert
+        assertEquals(3, notSquare.getDna().length);
+        assertNull(notSquare.getStreamedVerdict());
+        assertNull(nullRow.getDna()[1]);
+        assertNull(nullRow.getStreamedVerdict());
+        assertEquals(0, empty.getDna().length);
+        assertNull(empty.getStreamedVerdict());
+        assertNull(nullDna.getDna());
+        assertNull(nullDna.getStreamedVerdict());
+    }
+
+    @Test
+    @DisplayName("Sin escaneo deserializa igual que DnaRequest")
+    void testDisabledScanning() throws Exception {
+        // Arrange
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setHandlerInstantiator(new DisabledScanningInstantiator());
+
+        // Act
+        StreamedDnaRequest request = mapper.readValue(
+                "{\"dna\":[\"AAAA\",\"CCCC\",\"GGGG\",\"TTTT\"]}", StreamedDnaRequest.class);
+
+        // Assert
+        assertEquals(4, request.getDna().length);
+        assertNull(request.getStreamedVerdict());
+    }
+
+    @Test
+    @DisplayName("Rechaza un cuerpo con tipos incorrectos como el deserializador por defecto")
+    void testMismatchedInput() {
+        assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue("{\"dna\":[{\"a\":1}]}", StreamedDnaRequest.class));
+        assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue("[\"AAAA\"]", StreamedDnaRequest.class));
+    }
+
+    /**
+     * Crea el deserializador con el escaneo deshabilitado, como lo haría
+     * SpringHandlerInstantiator con {@code mutant.detector.streaming.enabled=false}.
+     */
+    private static class DisabledScanningInstantiator extends HandlerInstantiator {
+
+        @Override
+        public JsonDeserializer<?> deserializerInstance(DeserializationConfig config, Annotated annotated,
+                                                        Class<?> deserClass) {
+            return deserClass == StreamedDnaRequestDeserializer.class
+                    ? new StreamedDnaRequestDeserializer(false)
+                    : null;
+        }
+
+        @Override
+        public KeyDeserializer keyDeserializerInstance(DeserializationConfig config, Annotated annotated,
+                                                       Class<?> keyDeserClass) {
+            return null;
+        }
+
+        @Override
+        public JsonSerializer<?> serializerInstance(SerializationConfig config, Annotated annotated,
+                                                    Class<?> serClass) {
+            return null;
+        }
+
+        @Override
+        public TypeResolverBuilder<?> typeResolverBuilderInstance(MapperConfig<?> config, Annotated annotated,
+                                                                  Class<?> builderClass) {
+            return null;
+        }
+
+        @Override
+        public TypeIdResolver typeIdResolverInstance(MapperConfig<?> config, Annotated annotated,
+                                                     Class<?> resolverClass) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * Tests de la migración db/migration/dna_hash_to_binary.sql sobre una tabla con
+ * el esquema anterior (dna_hash VARCHAR(64) hexadecimal).
+ */
+@DisplayName("Migración de dna_hash a BINARY(32) - Tests de Integración")
+class DnaHashMigrationTest {
+
+    private static final String OLD_SCHEMA = "CREATE TABLE dna_records ("
+            + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+            + "created_at TIMESTAMP(6) NOT NULL, "
+            + "dna_hash VARCHAR(64) NOT NULL UNIQUE, "
+            + "is_mutant BOOLEAN NOT NULL)";
+
+    @Test
+    @DisplayName("Convierte cada hash hexadecimal a sus 32 bytes y mantiene la restricción única")
+    void testMigratesHexHashes() throws SQLException {
+        // Arrange: todos los valores de byte, incluidos los que forman surrogates UTF-16
+        byte[][] hashes = new byte[9][32];
+        for (int row = 0; row < 8; row++) {
+            for (int i = 0; i < 32; i++) {
+                hashes[row][i] = (byte) (row * 32 + i);
+            }
+        }
+        hashes[8] = HexFormat.of().parseHex("d800dbffdc00dfff0000ffff00ff8000007f7f80fffe0001a3f2c7d8e9fa0b1c");
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:migration", "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(OLD_SCHEMA);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO dna_records (created_at, dna_hash, is_mutant) VALUES (CURRENT_TIMESTAMP, ?, ?)")) {
+                for (int row = 0; row < hashes.length; row++) {
+                    insert.setString(1, HexFormat.of().formatHex(hashes[row]));
+                    insert.setBoolean(2, row % 2 == 0);
+                    insert.executeUpdate();
+                }
+            }
+
+            // Act
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/dna_hash_to_binary.sql"));
+
+            // Assert
+            try (ResultSet result = statement.executeQuery("SELECT dna_hash, is_mutant FROM dna_records ORDER BY id")) {
+                for (int row = 0; row < hashes.length; row++) {
+                    assertTrue(result.next());
+                    assertArrayEquals(hashes[row], result.getBytes(1), "Fila " + row);
+                    assertEquals(row % 2 == 0, result.getBoolean(2));
+                }
+            }
+            try (PreparedStatement duplicate = connection.prepareStatement(
+                    "INSERT INTO dna_records (created_at, dna_hash, is_mutant) VALUES (CURRENT_TIMESTAMP, ?, TRUE)")) {
+                duplicate.setBytes(1, hashes[8]);
+                assertThrows(SQLException.class, duplicate::executeUpdate);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.repository;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.example.entity.DnaRecord;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests de integración de las inserciones con MERGE de DnaRecordRepository
+ * contra la H2 en memoria.
+ */
+@SpringBootTest
+@DisplayName("DnaRecordRepository - Tests de Integración")
+class DnaRecordRepositoryTest {
+
+    @Autowired
+    private DnaRecordRepository dnaRecordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Un insert del mismo hash que otra transacción sin confirmar no falla y no duplica")
+    void testInsertIgnoreRace() throws Exception {
+        // Arrange
+        byte[] hash = randomHash();
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act: la primera transacción inserta y espera antes de confirmar
+        Future<Boolean> first = executor.submit(() -> transactionTemplate.execute(status -> {
+            boolean inserted = dnaRecordRepository.insertIgnore(record(hash, true));
+            firstInserted.countDown();
+            await(commitFirst);
+            return inserted;
+        }));
+        assertTrue(firstInserted.await(10, TimeUnit.SECONDS));
+        Future<Boolean> second = executor.submit(() -> transactionTemplate.execute(status -> {
+            boolean inserted = dnaRecordRepository.insertIgnore(record(hash, true));
+            // La transacción sigue siendo válida después de la clave duplicada
+            return inserted || dnaRecordRepository.findByDnaHash(hash).isEmpty();
+        }));
+        Thread.sleep(200);
+        commitFirst.countDown();
+
+        // Assert
+        assertTrue(first.get(10, TimeUnit.SECONDS));
+        assertFalse(second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, dnaRecordRepository.findByDnaHashIn(List.of(hash)).size());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("El insert por lotes devuelve solo los registros nuevos")
+    void testInsertIgnoreAllSkipsExistingAndRepeated() {
+        // Arrange
+        byte[] existing = randomHash();
+        byte[] fresh = randomHash();
+        dnaRecordRepository.insertIgnore(record(existing, false));
+        DnaRecord first = record(fresh, true);
+
+        // Act
+        List<DnaRecord> inserted = transactionTemplate.execute(status -> dnaRecordRepository.insertIgnoreAll(
+                List.of(record(existing, false), first, record(fresh, true))));
+
+        // Assert
+        assertEquals(1, inserted.size());
+        assertSame(first, inserted.get(0));
+        assertEquals(2, dnaRecordRepository.findByDnaHashIn(List.of(existing, fresh)).size());
+    }
+
+    private static DnaRecord record(byte[] hash, boolean isMutant) {
+        DnaRecord record = new DnaRecord();
+        record.setDnaHash(hash);
+        record.setMutant(isMutant);
+        return record;
+    }
+
+    private static byte[] randomHash() {
+        byte[] hash = new byte[32];
+        ThreadLocalRandom.current().nextBytes(hash);
+        return hash;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
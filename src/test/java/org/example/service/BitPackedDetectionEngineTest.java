@@ -0,0 +1,191 @@
+package org.example.service;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests de equivalencia entre BitPackedDetectionEngine y el escaneo escalar.
+ */
+@DisplayName("BitPackedDetectionEngine - Tests de Equivalencia")
+class BitPackedDetectionEngineTest {
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private BitPackedDetectionEngine engine;
+    private MutantDetector scalarDetector;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() {
+        engine = new BitPackedDetectionEngine();
+        scalarDetector = new MutantDetector();
+    }
+
+    // ==================== TESTS DE DIRECCIONES ====================
+
+    @Test
+    @DisplayName("Detecta mutante con secuencias horizontales")
+    void testHorizontalSequences() {
+        String[] dna = {
+            "AAAATG",
+            "TGCAGT",
+            "GCTTCC",
+            "CCCCTG",
+            "GTAGTC",
+            "AGTCAC"
+        };
+        assertTrue(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Detecta mutante con secuencias verticales")
+    void testVerticalSequences() {
+        String[] dna = {
+            "AGAATG",
+            "GGCAGT",
+            "GGTTCC",
+            "GGCCTG",
+            "GGAGTC",
+            "AGTCAC"
+        };
+        assertTrue(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Detecta mutante con secuencias diagonales")
+    void testDiagonalSequences() {
+        String[] dna = {
+            "ATGCGA",
+            "CAGTGC",
+            "TTATTT",
+            "AGAATG",
+            "CCCGTA",
+            "TCACTG"
+        };
+        assertTrue(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Detecta humano con una sola secuencia")
+    void testHumanWithOneSequence() {
+        String[] dna = {
+            "ATGCGA",
+            "CAGTGC",
+            "TTATTT",
+            "AGACGG",
+            "GCGTCA",
+            "TCACTG"
+        };
+        assertFalse(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Cuenta secuencias solapadas igual que el escaneo escalar")
+    void testOverlappingSequences() {
+        String[] dna = {
+            "AAAAAC",
+            "CGTCGT",
+            "TCGTCG",
+            "GTCGTC",
+            "CGTCGA",
+            "TCGTCG"
+        };
+        assertTrue(engine.isMutant(dna));
+        assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Detecta secuencias que cruzan el límite entre palabras de 64 bits")
+    void testSequenceAcrossWordBoundary() {
+        int n = 40;
+        String[] dna = humanMatrix(n);
+        dna[5] = replaceRange(dna[5], 30, "GGGG");
+        dna[10] = replaceRange(dna[10], 29, "TTTT");
+        assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna));
+        assertTrue(engine.isMutant(dna));
+    }
+
+    // ==================== TESTS DE VALIDACIÓN ====================
+
+    @Test
+    @DisplayName("Rechaza ADN inválido igual que el escaneo escalar")
+    void testInvalidDna() {
+        assertFalse(engine.isMutant(null));
+        assertFalse(engine.isMutant(new String[]{}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", "AAAA", "AAAA"}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", null, "AAAA", "AAAA"}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", "AAAA", "AAXA", "AAAA"}));
+    }
+
+    // ==================== TESTS DE EQUIVALENCIA ====================
+
+    @Test
+    @DisplayName("Da el mismo resultado que el escaneo escalar en matrices aleatorias")
+    void testRandomMatricesMatchScalar() {
+        Random random = new Random(42);
+        int[] sizes = {1, 3, 4, 5, 6, 7, 10, 31, 32, 33, 63, 64, 65, 100};
+
+        for (int n : sizes) {
+            for (int i = 0; i < 200; i++) {
+                String[] dna = randomMatrix(random, n, random.nextInt(3) + 2);
+                assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna),
+                        () -> "Diferencia para matriz " + String.join(",", dna));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Da el mismo resultado sobre un PackedDna que sobre las filas")
+    void testPackedDnaMatchesRows() {
+        Random random = new Random(7);
+        int[] sizes = {4, 5, 6, 31, 32, 33, 65};
+
+        for (int n : sizes) {
+            for (int i = 0; i < 100; i++) {
+                String[] dna = randomMatrix(random, n, random.nextInt(3) + 2);
+                assertEquals(engine.isMutant(dna), engine.isMutantPacked(PackedDna.of(dna)),
+                        () -> "Diferencia para matriz " + String.join(",", dna));
+            }
+        }
+    }
+
+    /**
+     * Genera una matriz aleatoria con un alfabeto reducido para provocar secuencias.
+     */
+    private static String[] randomMatrix(Random random, int n, int alphabet) {
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = BASES[random.nextInt(alphabet)];
+            }
+            dna[row] = new String(chars);
+        }
+        return dna;
+    }
+
+    /**
+     * Matriz sin ninguna secuencia de 4 en ninguna dirección.
+     */
+    private static String[] humanMatrix(int n) {
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = BASES[(col + 2 * (row % 2) + (row / 2) % 2) % 4];
+            }
+            dna[row] = new String(chars);
+        }
+        return dna;
+    }
+
+    private static String replaceRange(String row, int from, String value) {
+        return row.substring(0, from) + value + row.substring(from + value.length());
+    }
+}
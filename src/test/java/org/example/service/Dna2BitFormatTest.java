@@ -0,0 +1,105 @@
+package org.example.service;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests unitarios para el formato binario x-dna2bit.
+ */
+@DisplayName("Dna2BitFormat - Tests Unitarios")
+class Dna2BitFormatTest {
+
+    // ==================== IDA Y VUELTA ====================
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 5, 6, 7, 31, 32, 33, 100, 1000})
+    @DisplayName("Codificar y decodificar devuelve la misma matriz")
+    void testRoundTrip(int n) {
+        // Arrange
+        String[] dna = randomMatrix(n, new Random(31L * n));
+
+        // Act
+        byte[] message = Dna2BitFormat.encode(dna);
+        PackedDna decoded = Dna2BitFormat.decode(message);
+
+        // Assert
+        assertEquals(Dna2BitFormat.encodedLength(n), message.length);
+        assertArrayEquals(dna, decoded.toRows());
+        assertArrayEquals(PackedDna.of(dna).words(), decoded.words());
+    }
+
+    @Test
+    @DisplayName("Codifica el encabezado big-endian y 4 bases por byte")
+    void testLayout() {
+        // Arrange
+        String[] dna = {"ACGT", "TTTT", "AAAA", "CAAA"};
+
+        // Act
+        byte[] message = Dna2BitFormat.encode(dna);
+
+        // Assert
+        assertArrayEquals(new byte[]{0, 0, 0, 4, (byte) 0b11100100, (byte) 0xFF, 0, 0b01}, message);
+        assertEquals(250_004, Dna2BitFormat.encodedLength(1000));
+    }
+
+    // ==================== MENSAJES INVÁLIDOS ====================
+
+    @Test
+    @DisplayName("Rechaza mensajes con N inválido o largo incorrecto")
+    void testDecodeRejectsInvalidMessages() {
+        byte[] valid = Dna2BitFormat.encode(randomMatrix(5, new Random(1)));
+
+        assertNull(Dna2BitFormat.decode(null));
+        assertNull(Dna2BitFormat.decode(new byte[]{0, 0, 4}));
+        assertNull(Dna2BitFormat.decode(new byte[]{0, 0, 0, 3, 0, 0, 0}));
+        assertNull(Dna2BitFormat.decode(new byte[]{(byte) 0x80, 0, 0, 4, 0, 0, 0, 0}));
+        assertNull(Dna2BitFormat.decode(Arrays.copyOf(valid, valid.length - 1)));
+        assertNull(Dna2BitFormat.decode(Arrays.copyOf(valid, valid.length + 1)));
+    }
+
+    @Test
+    @DisplayName("Rechaza bits de relleno distintos de 0")
+    void testDecodeRejectsPadding() {
+        // Arrange: 5x5 = 25 bases, el último byte usa solo 2 bits
+        byte[] message = Dna2BitFormat.encode(randomMatrix(5, new Random(2)));
+        message[message.length - 1] |= 0b100;
+
+        // Act & Assert
+        assertNull(Dna2BitFormat.decode(message));
+    }
+
+    @Test
+    @DisplayName("No codifica ADN inválido")
+    void testEncodeRejectsInvalidDna() {
+        assertThrows(IllegalArgumentException.class, () -> Dna2BitFormat.encode(null));
+        assertThrows(IllegalArgumentException.class, () -> Dna2BitFormat.encode(new String[]{"ACG", "ACG", "ACG"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> Dna2BitFormat.encode(new String[]{"ACGT", "ACGT", "ACG", "ACGT"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> Dna2BitFormat.encode(new String[]{"ACGT", "ACGT", "ACXT", "ACGT"}));
+    }
+
+    // ==================== HELPERS ====================
+
+    private static String[] randomMatrix(int n, Random random) {
+        String bases = "ACGT";
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            StringBuilder sb = new StringBuilder(n);
+            for (int col = 0; col < n; col++) {
+                sb.append(bases.charAt(random.nextInt(4)));
+            }
+            dna[row] = sb.toString();
+        }
+        return dna;
+    }
+}
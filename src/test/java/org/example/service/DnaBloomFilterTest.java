@@ -0,0 +1,261 @@
+package org.example.service;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.example.repository.DnaRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para DnaBloomFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DnaBloomFilter - Tests Unitarios")
+class DnaBloomFilterTest {
+
+    private static final int PUT_THREADS = 4;
+    private static final int PUTS_PER_THREAD = 20_000;
+
+    @Mock
+    private DnaRecordRepository dnaRecordRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    // ==================== CONSTRUCCIÓN ====================
+
+    @Test
+    @DisplayName("Se construye con los hashes existentes y no tiene falsos negativos")
+    void testLoadFromRepository() {
+        // Arrange
+        when(dnaRecordRepository.count()).thenReturn(1_000L);
+        doAnswer(invocation -> {
+            Consumer<byte[]> consumer = invocation.getArgument(0);
+            for (int i = 0; i < 1_000; i++) {
+                consumer.accept(hash(i).bytes());
+            }
+            return null;
+        }).when(dnaRecordRepository).forEachDnaHash(any());
+        DnaBloomFilter filter = filter(true, 100, 0.01);
+
+        // Act
+        filter.load();
+
+        // Assert
+        assertTrue(filter.isReady());
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain(hash(i)));
+        }
+        // Dimensionado para el doble de los registros existentes (2.000 al 1%)
+        assertTrue(filter.memoryBytes() >= 2_000 * 9 / 8);
+    }
+
+    @Test
+    @DisplayName("Conserva los hashes insertados mientras se construye")
+    void testPutDuringLoad() {
+        // Arrange
+        DnaBloomFilter[] filter = new DnaBloomFilter[1];
+        when(dnaRecordRepository.count()).thenReturn(1L);
+        doAnswer(invocation -> {
+            Consumer<byte[]> consumer = invocation.getArgument(0);
+            consumer.accept(hash(1).bytes());
+            // Inserción concurrente con la carga en segundo plano
+            filter[0].put(hash(2));
+            assertTrue(filter[0].mightContain(hash(3)));
+            return null;
+        }).when(dnaRecordRepository).forEachDnaHash(any());
+        filter[0] = filter(true, 100, 0.01);
+
+        // Act
+        filter[0].startLoading();
+
+        // Assert
+        assertTrue(filter[0].isReady());
+        assertTrue(filter[0].mightContain(hash(1)));
+        assertTrue(filter[0].mightContain(hash(2)));
+    }
+
+    @Test
+    @DisplayName("Conserva los hashes registrados antes de la carga y en paralelo con ella")
+    void testConcurrentPutsAroundLoad() throws Exception {
+        // Arrange: la base de datos todavía no ve los registros (write-behind sin confirmar)
+        DnaBloomFilter filter = filter(true, 100_000, 0.01);
+        when(dnaRecordRepository.count()).thenReturn(0L);
+        CountDownLatch scanning = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            scanning.countDown();
+            Thread.sleep(20);
+            return null;
+        }).when(dnaRecordRepository).forEachDnaHash(any());
+        filter.put(hash(-1));
+        ExecutorService executor = Executors.newFixedThreadPool(PUT_THREADS + 1);
+        CyclicBarrier start = new CyclicBarrier(PUT_THREADS + 1);
+
+        // Act
+        List<Future<?>> puts = new ArrayList<>();
+        for (int t = 0; t < PUT_THREADS; t++) {
+            int first = t * PUTS_PER_THREAD;
+            puts.add(executor.submit(() -> {
+                start.await(10, TimeUnit.SECONDS);
+                for (int i = first; i < first + PUTS_PER_THREAD; i++) {
+                    filter.put(hash(i));
+                }
+                return null;
+            }));
+        }
+        Future<?> load = executor.submit(() -> {
+            start.await(10, TimeUnit.SECONDS);
+            filter.load();
+            return null;
+        });
+        load.get(10, TimeUnit.SECONDS);
+        for (Future<?> put : puts) {
+            put.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(0, scanning.getCount());
+        assertTrue(filter.mightContain(hash(-1)));
+        for (int i = 0; i < PUT_THREADS * PUTS_PER_THREAD; i++) {
+            assertTrue(filter.mightContain(hash(i)), "Hash " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Responde 'puede estar' mientras no se construyó")
+    void testMightContainBeforeLoad() {
+        DnaBloomFilter filter = filter(true, 100, 0.01);
+
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain(hash(1)));
+        assertEquals(0, filter.memoryBytes());
+    }
+
+    @Test
+    @DisplayName("Deshabilitado no lee la base de datos y siempre responde 'puede estar'")
+    void testDisabledFilter() {
+        DnaBloomFilter filter = filter(false, 100, 0.01);
+
+        filter.startLoading();
+        filter.load();
+
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain(hash(1)));
+        verifyNoInteractions(dnaRecordRepository);
+    }
+
+    @Test
+    @DisplayName("Rechaza una configuración inválida")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> filter(true, 0, 0.01));
+        assertThrows(IllegalArgumentException.class,
+                () -> filter(true, 100, 1.0));
+    }
+
+    // ==================== FALSOS POSITIVOS ====================
+
+    @Test
+    @DisplayName("La tasa de falsos positivos queda cerca de la configurada")
+    void testFalsePositiveRate() {
+        // Arrange
+        DnaBloomFilter filter = emptyFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(hash(i));
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain(hash(i))) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        double rate = falsePositives / 100_000.0;
+        assertTrue(rate < 0.02, "Tasa de falsos positivos: " + rate);
+        assertTrue(filter.estimatedFalsePositiveRate() > 0.005 && filter.estimatedFalsePositiveRate() < 0.02,
+                "Estimada: " + filter.estimatedFalsePositiveRate());
+    }
+
+    @Test
+    @DisplayName("Funciona con hashes de 128 bits (murmur3)")
+    void testShortHashes() {
+        DnaBloomFilter filter = emptyFilter(1_000, 0.01);
+        DnaHash murmur = new Murmur3DnaHasher(false)
+                .hash(new String[]{"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"});
+
+        filter.put(murmur);
+
+        assertTrue(filter.mightContain(murmur));
+    }
+
+    // ==================== MÉTRICAS ====================
+
+    @Test
+    @DisplayName("Expone memoria, probabilidad estimada y resultados de las consultas")
+    void testMetrics() {
+        // Arrange
+        DnaBloomFilter filter = emptyFilter(1_000, 0.01);
+        filter.put(hash(1));
+
+        // Act
+        filter.mightContain(hash(1));
+        filter.mightContain(hash(2));
+        filter.recordFalsePositive();
+        filter.recordFalsePositives(2);
+
+        // Assert
+        assertTrue(meterRegistry.get("dna.bloom.memory").gauge().value() >= 1_000 * 9 / 8);
+        assertTrue(meterRegistry.get("dna.bloom.fpp").gauge().value() > 0);
+        assertEquals(1.0, meterRegistry.get("dna.bloom.checks").tag("result", "positive").counter().count());
+        assertEquals(1.0, meterRegistry.get("dna.bloom.checks").tag("result", "negative").counter().count());
+        assertEquals(3.0, meterRegistry.get("dna.bloom.false.positives").counter().count());
+    }
+
+    private DnaBloomFilter emptyFilter(long expectedInsertions, double falsePositiveRate) {
+        when(dnaRecordRepository.count()).thenReturn(0L);
+        DnaBloomFilter filter = filter(true, expectedInsertions, falsePositiveRate);
+        filter.load();
+        return filter;
+    }
+
+    private DnaBloomFilter filter(boolean enabled, long expectedInsertions, double falsePositiveRate) {
+        return new DnaBloomFilter(dnaRecordRepository, meterRegistry, new StartupLoader(false),
+                enabled, expectedInsertions, falsePositiveRate);
+    }
+
+    private static DnaHash hash(int value) {
+        return DnaHash.of(ByteBuffer.allocate(32).putInt(value).array());
+    }
+}
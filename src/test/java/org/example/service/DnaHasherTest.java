@@ -0,0 +1,232 @@
+package org.example.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests unitarios para las implementaciones de DnaHasher y DnaFingerprint.
+ */
+@DisplayName("DnaHasher - Tests Unitarios")
+class DnaHasherTest {
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private final Sha256DnaHasher sha256 = new Sha256DnaHasher();
+    private final Murmur3DnaHasher murmur3 = new Murmur3DnaHasher(false);
+
+    // ==================== SHA-256 ====================
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 6, 33, 100, 200})
+    @DisplayName("SHA-256 en streaming coincide con el digest de String.join")
+    void testSha256MatchesJoinedDigest(int n) throws Exception {
+        String[] dna = randomMatrix(n, new Random(n));
+
+        assertArrayEquals(joinedSha256(dna), sha256.hash(dna).bytes());
+    }
+
+    @Test
+    @DisplayName("SHA-256 coincide con String.join para ADN inválido y no ASCII")
+    void testSha256MatchesJoinedDigestForInvalidDna() throws Exception {
+        String[][] inputs = {
+                {"ATGÑ", "CAGT", "TTAT", "AGAA"},
+                {"ATG", "CAGTX", "é"},
+                {"ATGC", null, "TTAT", "AGAA"},
+                {}
+        };
+        for (String[] dna : inputs) {
+            assertArrayEquals(joinedSha256(dna), sha256.hash(dna).bytes());
+        }
+    }
+
+    // ==================== MURMUR3 ====================
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 5, 8, 9, 11, 12, 16, 17, 32, 33, 64, 100})
+    @DisplayName("Murmur3 en streaming coincide con MurmurHash3 x64_128 sobre el ADN empaquetado")
+    void testMurmur3MatchesReference(int n) {
+        String[] dna = randomMatrix(n, new Random(31L * n));
+        byte[] packed = Arrays.copyOfRange(DnaFingerprint.of(dna), 5, 5 + (n * n + 3) / 4);
+
+        byte[] expected = Arrays.copyOf(referenceMurmur3(packed, Murmur3DnaHasher.packedSeed(n)), 32);
+
+        assertArrayEquals(expected, murmur3.hash(dna).bytes());
+    }
+
+    @Test
+    @DisplayName("Murmur3 distingue matrices que difieren en una sola base")
+    void testMurmur3DistinguishesSingleBaseChanges() {
+        for (int n : new int[]{4, 8, 9, 32, 33}) {
+            String[] dna = randomMatrix(n, new Random(n));
+            Set<DnaHash> hashes = new HashSet<>();
+            hashes.add(murmur3.hash(dna));
+            for (int row = 0; row < n; row++) {
+                for (int col = 0; col < n; col++) {
+                    String[] changed = dna.clone();
+                    char[] chars = changed[row].toCharArray();
+                    chars[col] = chars[col] == 'A' ? 'C' : 'A';
+                    changed[row] = new String(chars);
+                    hashes.add(murmur3.hash(changed));
+                }
+            }
+            assertEquals(n * n + 1, hashes.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Murmur3 distingue matrices de distinto tamaño con la misma longitud empaquetada")
+    void testMurmur3DistinguishesSizesWithSamePackedLength() {
+        // 1 base y 4 bases ocupan 1 byte empaquetado, todo en cero
+        DnaHash oneByOne = murmur3.hash(new String[]{"A"});
+        DnaHash twoByTwo = murmur3.hash(new String[]{"AA", "AA"});
+
+        assertNotEquals(oneByOne, twoByTwo);
+        assertEquals(twoByTwo, murmur3.hash(PackedDna.of(new String[]{"AA", "AA"})));
+    }
+
+    @Test
+    @DisplayName("Murmur3 distingue ADN inválido del empaquetado y entre sí")
+    void testMurmur3InvalidDna() {
+        DnaHash valid = murmur3.hash(new String[]{"AAAA", "AAAA", "AAAA", "AAAA"});
+        DnaHash invalid = murmur3.hash(new String[]{"AAAA", "AAAA", "AAAA", "AAAX"});
+        DnaHash otherShape = murmur3.hash(new String[]{"AAA", "AAAAA", "AAAA", "AAAX"});
+
+        assertNotEquals(valid, invalid);
+        assertNotEquals(invalid, otherShape);
+        assertEquals(invalid, murmur3.hash(new String[]{"AAAA", "AAAA", "AAAA", "AAAX"}));
+    }
+
+    // ==================== HUELLA ====================
+
+    @Test
+    @DisplayName("La huella distingue matrices distintas y coincide para iguales")
+    void testFingerprintIsExact() {
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+        String[] same = dna.clone();
+        String[] other = dna.clone();
+        other[5] = "TCACTA";
+
+        assertArrayEquals(DnaFingerprint.of(dna), DnaFingerprint.of(same));
+        assertFalse(Arrays.equals(DnaFingerprint.of(dna), DnaFingerprint.of(other)));
+        assertEquals(5 + 9, DnaFingerprint.of(dna).length);
+    }
+
+    @Test
+    @DisplayName("La huella de ADN inválido conserva el texto")
+    void testFingerprintOfInvalidDna() {
+        byte[] first = DnaFingerprint.of(new String[]{"AXG", "CAG", "TTA"});
+        byte[] second = DnaFingerprint.of(new String[]{"AXG", "CAG", "TTC"});
+
+        assertFalse(Arrays.equals(first, second));
+        assertEquals(1, first[0]);
+    }
+
+    // ==================== ADN EMPAQUETADO ====================
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 5, 31, 32, 33, 64, 100})
+    @DisplayName("Hash y huella del ADN empaquetado coinciden con los de las filas")
+    void testPackedDnaMatchesRows(int n) {
+        String[] dna = randomMatrix(n, new Random(17L * n));
+        PackedDna packed = PackedDna.of(dna);
+
+        assertArrayEquals(dna, packed.toRows());
+        assertEquals(sha256.hash(dna), sha256.hash(packed));
+        assertEquals(murmur3.hash(dna), murmur3.hash(packed));
+        assertArrayEquals(DnaFingerprint.of(dna), DnaFingerprint.of(packed));
+    }
+
+    // ==================== HELPERS ====================
+
+    private static String[] randomMatrix(int n, Random random) {
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = BASES[random.nextInt(4)];
+            }
+            dna[row] = new String(chars);
+        }
+        return dna;
+    }
+
+    private static byte[] joinedSha256(String[] dna) throws Exception {
+        return MessageDigest.getInstance("SHA-256")
+                .digest(String.join("", dna).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * MurmurHash3 x64_128 de referencia sobre un array de bytes completo.
+     */
+    private static byte[] referenceMurmur3(byte[] data, long seed) {
+        final long c1 = 0x87c37b91114253d5L;
+        final long c2 = 0x4cf5ad432745937fL;
+        long h1 = seed;
+        long h2 = seed;
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        int blocks = data.length / 16;
+
+        for (int i = 0; i < blocks; i++) {
+            long k1 = buffer.getLong(i * 16);
+            long k2 = buffer.getLong(i * 16 + 8);
+            h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        int tail = data.length - blocks * 16;
+        for (int i = tail - 1; i >= 0; i--) {
+            long b = data[blocks * 16 + i] & 0xffL;
+            if (i >= 8) {
+                k2 |= b << (8 * (i - 8));
+            } else {
+                k1 |= b << (8 * i);
+            }
+        }
+        if (tail > 8) {
+            h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+        }
+        if (tail > 0) {
+            h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+        }
+
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+        return ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putLong(h1).putLong(h2).array();
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para DnaMetrics.
+ */
+@DisplayName("DnaMetrics - Tests Unitarios")
+class DnaMetricsTest {
+
+    @Test
+    @DisplayName("Asigna cada tamaño N a su bucket")
+    void testSizeBuckets() {
+        assertEquals("4-10", DnaMetrics.sizeBucketTag(4));
+        assertEquals("4-10", DnaMetrics.sizeBucketTag(10));
+        assertEquals("11-100", DnaMetrics.sizeBucketTag(11));
+        assertEquals("101-1000", DnaMetrics.sizeBucketTag(1000));
+        assertEquals("1001+", DnaMetrics.sizeBucketTag(5000));
+    }
+
+    @Test
+    @DisplayName("Registra la detección en el timer de su tamaño y veredicto")
+    void testRecordDetection() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DnaMetrics metrics = new DnaMetrics(meterRegistry);
+
+        metrics.recordDetection(200, false, 1_000);
+        metrics.recordDetection(200, false, 3_000);
+
+        assertEquals(2, meterRegistry.get("dna.detection")
+                .tag("size", "101-1000").tag("verdict", "human").timer().count());
+        assertEquals(0, meterRegistry.get("dna.detection")
+                .tag("size", "101-1000").tag("verdict", "mutant").timer().count());
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.entity.DnaRecord;
+import org.example.repository.DnaRecordRepository;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para la persistencia write-behind de DnaRecordWriter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DnaRecordWriter - Tests Unitarios")
+class DnaRecordWriterTest {
+
+    @Mock
+    private DnaRecordRepository dnaRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private StatsService statsService;
+
+    private final Object lock = new Object();
+    private SimpleMeterRegistry meterRegistry;
+    private VerdictCache verdictCache;
+    private AtomicInteger persisted;
+    private RuntimeException failure;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verdictCache = new VerdictCache(meterRegistry, 100);
+        persisted = new AtomicInteger();
+        failure = null;
+        doAnswer(invocation -> {
+            if (failure != null) {
+                throw failure;
+            }
+            synchronized (lock) {
+                List<DnaRecord> batch = invocation.getArgument(0);
+                persisted.addAndGet(batch.size());
+                return batch;
+            }
+        }).when(dnaRecordRepository).insertIgnoreAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Persiste en segundo plano y vacía la cola al detenerse")
+    void testFlushesQueueOnStop() {
+        DnaRecordWriter writer = newWriter(true, 1000);
+        writer.start();
+
+        for (int i = 0; i < 250; i++) {
+            writer.enqueue(record("hash-" + i));
+        }
+        writer.stop();
+
+        assertFalse(writer.isRunning());
+        assertEquals(250, persisted.get());
+        verify(statsService, times(250)).recordNewDna(anyBoolean());
+        assertEquals(0, writer.getQueueDepth());
+        assertEquals(0.0, meterRegistry.get("dna.writebehind.caller.runs").counter().count());
+        assertTrue(meterRegistry.get("dna.writebehind.flush").timer().count() > 0);
+    }
+
+    @Test
+    @DisplayName("Escribe de forma síncrona cuando el writer no está corriendo")
+    void testCallerRunsWhenNotRunning() {
+        DnaRecordWriter writer = newWriter(true, 1000);
+
+        writer.enqueue(record("hash-sync"));
+
+        assertEquals(1, persisted.get());
+        assertEquals(1.0, meterRegistry.get("dna.writebehind.caller.runs").counter().count());
+    }
+
+    @Test
+    @DisplayName("Aplica backpressure escribiendo en el hilo que llama si la cola está llena")
+    void testBackpressureWhenQueueIsFull() throws InterruptedException {
+        DnaRecordWriter writer = newWriter(true, 1);
+        writer.start();
+
+        synchronized (lock) {
+            // El hilo de fondo queda bloqueado en el primer batch; la cola (capacidad 1) se llena
+            writer.enqueue(record("hash-1"));
+            Thread.sleep(100);
+            writer.enqueue(record("hash-2"));
+            writer.enqueue(record("hash-3"));
+        }
+        writer.stop();
+
+        assertEquals(3, persisted.get());
+        assertTrue(meterRegistry.get("dna.writebehind.caller.runs").counter().count() >= 1.0);
+    }
+
+    @Test
+    @DisplayName("Quita de la caché los veredictos de un batch que no se pudo persistir")
+    void testEvictsVerdictsOfFailedBatch() {
+        failure = new IllegalStateException("base de datos caída");
+        DnaRecordWriter writer = newWriter(true, 10);
+        DnaRecord record = record("hash-failed");
+        verdictCache.put(DnaHash.of(record.getDnaHash()), true);
+
+        writer.enqueue(record);
+
+        assertTrue(verdictCache.get(DnaHash.of(record.getDnaHash())).isEmpty());
+        verifyNoInteractions(statsService);
+    }
+
+    @Test
+    @DisplayName("Completa la fecha de creación al encolar")
+    void testSetsCreatedAt() {
+        DnaRecordWriter writer = newWriter(true, 10);
+        DnaRecord record = record("hash-date");
+
+        writer.enqueue(record);
+
+        assertNotNull(record.getCreatedAt());
+    }
+
+    private DnaRecordWriter newWriter(boolean enabled, int capacity) {
+        return new DnaRecordWriter(dnaRecordRepository, statsService, verdictCache, transactionManager,
+                meterRegistry,
+                enabled, capacity, 100, 10, 10);
+    }
+
+    private static DnaRecord record(String hash) {
+        DnaRecord record = new DnaRecord();
+        record.setDnaHash(hash.getBytes(StandardCharsets.UTF_8));
+        record.setMutant(true);
+        return record;
+    }
+}
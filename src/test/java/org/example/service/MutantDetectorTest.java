@@ -1,11 +1,15 @@
 package org.example.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Tests unitarios para MutantDetector.
  * Cubre todos los casos: mutantes, humanos, validaciones y casos edge.
@@ -247,6 +251,27 @@ class MutantDetectorTest {
         assertFalse(mutantDetector.isMutant(dna));
     }
 
+    @Test
+    @DisplayName("Rechaza ADN inválido en la última fila aunque ya haya dos secuencias")
+    void testInvalidLastRowAfterMutantSequences() {
+        String[] dna = {
+            "AAAATG",
+            "CCCCGT",
+            "TTATGT",
+            "AGAAGG",
+            "CGCATA",
+            "TCACTX"
+        };
+        assertFalse(mutantDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Rechaza ADN con letras minúsculas o fuera de ASCII")
+    void testInvalidCaseAndNonAsciiCharacters() {
+        assertFalse(mutantDetector.isMutant(new String[]{"aaaa", "CCCC", "TATA", "GAGA"}));
+        assertFalse(mutantDetector.isMutant(new String[]{"AAAA", "CCCC", "TAT\u0141", "GAGA"}));
+    }
+
     // ==================== TESTS DE CASOS EDGE ====================
 
     @Test
@@ -290,4 +315,35 @@ class MutantDetectorTest {
         };
         assertTrue(mutantDetector.isMutant(dna));
     }
+
+    // ==================== MÉTRICAS ====================
+
+    @Test
+    @DisplayName("Registra la posición de la salida anticipada solo para mutantes")
+    void testEarlyExitPositionMetric() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MutantDetector detector = new MutantDetector("scalar", 0, 0, meterRegistry);
+        // Segunda secuencia (CCCC) en la fila 3 de 6
+        String[] mutant = {
+            "AAAATG",
+            "TGCAGT",
+            "GCTTCC",
+            "CCCCTG",
+            "GTAGTC",
+            "AGTCAC"
+        };
+        String[] human = {
+            "ATGC",
+            "CGTA",
+            "TACG",
+            "GCAT"
+        };
+
+        assertTrue(detector.isMutant(mutant));
+        assertFalse(detector.isMutant(human));
+
+        DistributionSummary earlyExit = meterRegistry.get("dna.detection.early.exit").summary();
+        assertEquals(1, earlyExit.count());
+        assertEquals(100.0 * 4 / 6, earlyExit.totalAmount(), 1e-9);
+    }
 }
@@ -0,0 +1,112 @@
+package org.example.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.example.dto.StatsResponse;
+import org.example.repository.DnaRecordRepository;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Test de estrés de deduplicación con la base de datos real (H2 en memoria):
+ * muchos hilos envían a la vez los mismos ADN. Sin caché, para que cada envío
+ * llegue a la búsqueda y a la inserción.
+ */
+@SpringBootTest(properties = "mutant.cache.capacity=0")
+@DisplayName("MutantService - Test de Estrés de Concurrencia")
+class MutantServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+    private static final int DISTINCT_DNA = 4;
+
+    @Autowired
+    private MutantService mutantService;
+
+    @Autowired
+    private MutantDetector mutantDetector;
+
+    @Autowired
+    private DnaRecordRepository dnaRecordRepository;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private DnaHasher dnaHasher;
+
+    @Test
+    @DisplayName("Envíos concurrentes idénticos no fallan, insertan un registro por ADN y cuentan una vez")
+    void testConcurrentIdenticalSubmissions() throws Exception {
+        // Arrange
+        Random random = new Random(21);
+        List<String[]> dnas = new ArrayList<>();
+        for (int i = 0; i < DISTINCT_DNA; i++) {
+            dnas.add(randomMatrix(8, random));
+        }
+        StatsResponse before = statsService.getStats();
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act
+        List<Future<List<Boolean>>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                List<Boolean> verdicts = new ArrayList<>();
+                for (int round = 0; round < ROUNDS; round++) {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    String[] dna = dnas.get(round % DISTINCT_DNA);
+                    verdicts.add(mutantService.analyzeDna(dna.clone()));
+                }
+                return verdicts;
+            }));
+        }
+        List<List<Boolean>> results = new ArrayList<>();
+        for (Future<List<Boolean>> future : futures) {
+            results.add(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Assert
+        long expectedMutants = 0;
+        for (int i = 0; i < DISTINCT_DNA; i++) {
+            String[] dna = dnas.get(i);
+            boolean expected = mutantDetector.isMutant(dna);
+            expectedMutants += expected ? 1 : 0;
+            assertTrue(dnaRecordRepository.findByDnaHash(dnaHasher.hash(dna).bytes()).isPresent());
+            for (List<Boolean> verdicts : results) {
+                for (int round = i; round < ROUNDS; round += DISTINCT_DNA) {
+                    assertEquals(expected, verdicts.get(round));
+                }
+            }
+        }
+        StatsResponse after = statsService.getStats();
+        assertEquals(DISTINCT_DNA, (after.getCountMutantDna() + after.getCountHumanDna())
+                - (before.getCountMutantDna() + before.getCountHumanDna()));
+        assertEquals(expectedMutants, after.getCountMutantDna() - before.getCountMutantDna());
+    }
+
+    private static String[] randomMatrix(int n, Random random) {
+        String bases = "ACGT";
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            StringBuilder sb = new StringBuilder(n);
+            for (int col = 0; col < n; col++) {
+                sb.append(bases.charAt(random.nextInt(4)));
+            }
+            dna[row] = sb.toString();
+        }
+        return dna;
+    }
+}
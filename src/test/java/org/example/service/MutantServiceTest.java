@@ -1,24 +1,47 @@
 package org.example.service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.example.entity.DnaRecord;
 import org.example.repository.DnaRecordRepository;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Tests unitarios con mocks para MutantService.
@@ -33,6 +56,33 @@ class MutantServiceTest {
     @Mock
     private DnaRecordRepository dnaRecordRepository;
 
+    @Mock
+    private DnaRecordWriter dnaRecordWriter;
+
+    @Mock
+    private VerdictCache verdictCache;
+
+    @Mock
+    private StatsService statsService;
+
+    @Spy
+    private DnaHasher dnaHasher = new Sha256DnaHasher();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private DnaMetrics dnaMetrics = new DnaMetrics(meterRegistry);
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(dnaMetrics, true, 5_000);
+
+    @Spy
+    private DnaBloomFilter bloomFilter = new DnaBloomFilter(null, meterRegistry, null, false, 1_000, 0.01);
+
+    // Sin sincronización de transacciones: las acciones post-commit corren en el momento
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private MutantService mutantService;
 
@@ -65,36 +115,37 @@ class MutantServiceTest {
     @DisplayName("Analiza ADN mutante nuevo y lo persiste")
     void testAnalyzeMutantDnaAndPersist() {
         // Arrange
-        when(dnaRecordRepository.findByDnaHash(anyString())).thenReturn(Optional.empty());
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
         when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
-        when(dnaRecordRepository.save(any(DnaRecord.class))).thenReturn(new DnaRecord());
+        when(dnaRecordRepository.insertIgnore(any(DnaRecord.class))).thenReturn(true);
 
         // Act
         boolean result = mutantService.analyzeDna(mutantDna);
 
         // Assert
         assertTrue(result);
-        verify(dnaRecordRepository, times(1)).findByDnaHash(anyString());
+        verify(dnaRecordRepository, times(1)).findByDnaHash(any());
         verify(mutantDetector, times(1)).isMutant(mutantDna);
-        verify(dnaRecordRepository, times(1)).save(any(DnaRecord.class));
+        verify(dnaRecordRepository, times(1)).insertIgnore(any(DnaRecord.class));
+        verify(statsService, times(1)).recordNewDna(true);
     }
 
     @Test
     @DisplayName("Analiza ADN humano nuevo y lo persiste")
     void testAnalyzeHumanDnaAndPersist() {
         // Arrange
-        when(dnaRecordRepository.findByDnaHash(anyString())).thenReturn(Optional.empty());
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
         when(mutantDetector.isMutant(humanDna)).thenReturn(false);
-        when(dnaRecordRepository.save(any(DnaRecord.class))).thenReturn(new DnaRecord());
+        when(dnaRecordRepository.insertIgnore(any(DnaRecord.class))).thenReturn(true);
 
         // Act
         boolean result = mutantService.analyzeDna(humanDna);
 
         // Assert
         assertFalse(result);
-        verify(dnaRecordRepository, times(1)).findByDnaHash(anyString());
+        verify(dnaRecordRepository, times(1)).findByDnaHash(any());
         verify(mutantDetector, times(1)).isMutant(humanDna);
-        verify(dnaRecordRepository, times(1)).save(any(DnaRecord.class));
+        verify(dnaRecordRepository, times(1)).insertIgnore(any(DnaRecord.class));
     }
 
     @Test
@@ -104,15 +155,422 @@ class MutantServiceTest {
         DnaRecord existingRecord = new DnaRecord();
         existingRecord.setMutant(true);
 
-        when(dnaRecordRepository.findByDnaHash(anyString())).thenReturn(Optional.of(existingRecord));
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.of(existingRecord));
+
+        // Act
+        boolean result = mutantService.analyzeDna(mutantDna);
+
+        // Assert
+        assertTrue(result);
+        verify(dnaRecordRepository, times(1)).findByDnaHash(any());
+        verify(mutantDetector, never()).isMutant(any());
+        verify(dnaRecordRepository, never()).insertIgnore(any());
+        verify(statsService, never()).recordNewDna(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Encola el registro sin guardarlo en línea cuando write-behind está habilitado")
+    void testAnalyzeDnaWithWriteBehind() {
+        // Arrange
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        when(dnaRecordWriter.isEnabled()).thenReturn(true);
+
+        // Act
+        boolean result = mutantService.analyzeDna(mutantDna);
+
+        // Assert
+        assertTrue(result);
+        verify(dnaRecordWriter, times(1)).enqueue(any(DnaRecord.class));
+        verify(dnaRecordRepository, never()).insertIgnore(any());
+        verify(statsService, never()).recordNewDna(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Retorna el veredicto en caché sin consultar la base ni el detector")
+    void testReturnCachedVerdict() {
+        // Arrange
+        when(verdictCache.get(any())).thenReturn(Optional.of(true));
 
         // Act
         boolean result = mutantService.analyzeDna(mutantDna);
 
         // Assert
         assertTrue(result);
-        verify(dnaRecordRepository, times(1)).findByDnaHash(anyString());
+        verify(dnaRecordRepository, never()).findByDnaHash(any());
         verify(mutantDetector, never()).isMutant(any());
-        verify(dnaRecordRepository, never()).save(any());
+        verify(dnaRecordRepository, never()).insertIgnore(any());
+    }
+
+    @Test
+    @DisplayName("Carga la caché con el veredicto de un ADN nuevo")
+    void testWarmCacheOnWrite() {
+        // Arrange
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
+        when(mutantDetector.isMutant(humanDna)).thenReturn(false);
+
+        // Act
+        mutantService.analyzeDna(humanDna);
+
+        // Assert
+        verify(verdictCache, times(1)).put(any(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Detecta una colisión de hash comparando la huella y no deduplica")
+    void testHashCollisionIsDetectedWithFingerprint() {
+        // Arrange
+        MutantService verifyingService = new MutantService(mutantDetector, dnaRecordRepository,
+                dnaRecordWriter, verdictCache, new Sha256DnaHasher(true), statsService, dnaMetrics, singleFlight, bloomFilter,
+                transactionTemplate);
+        DnaRecord collidingRecord = new DnaRecord();
+        collidingRecord.setMutant(true);
+        collidingRecord.setDnaFingerprint(DnaFingerprint.of(mutantDna));
+
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.of(collidingRecord));
+        when(mutantDetector.isMutant(humanDna)).thenReturn(false);
+
+        // Act
+        boolean result = verifyingService.analyzeDna(humanDna);
+
+        // Assert
+        assertFalse(result);
+        verify(mutantDetector, times(1)).isMutant(humanDna);
+        verify(dnaRecordRepository, never()).insertIgnore(any());
+        verify(verdictCache, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("Acepta el hit cuando la huella coincide")
+    void testMatchingFingerprintIsDeduplicated() {
+        // Arrange
+        MutantService verifyingService = new MutantService(mutantDetector, dnaRecordRepository,
+                dnaRecordWriter, verdictCache, new Sha256DnaHasher(true), statsService, dnaMetrics, singleFlight, bloomFilter,
+                transactionTemplate);
+        DnaRecord existingRecord = new DnaRecord();
+        existingRecord.setMutant(true);
+        existingRecord.setDnaFingerprint(DnaFingerprint.of(mutantDna));
+
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.of(existingRecord));
+
+        // Act
+        boolean result = verifyingService.analyzeDna(mutantDna);
+
+        // Assert
+        assertTrue(result);
+        verify(mutantDetector, never()).isMutant(any());
+    }
+
+    @Test
+    @DisplayName("Usa el veredicto calculado durante la deserialización sin ejecutar el detector")
+    void testAnalyzeDnaWithPrecomputedVerdict() {
+        // Arrange
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
+        when(dnaRecordRepository.insertIgnore(any())).thenReturn(true);
+
+        // Act
+        boolean result = mutantService.analyzeDna(mutantDna, true);
+
+        // Assert
+        assertTrue(result);
+        verify(mutantDetector, never()).isMutant(any());
+        verify(dnaRecordRepository, times(1)).insertIgnore(argThat(DnaRecord::isMutant));
+        verify(statsService, times(1)).recordNewDna(true);
+    }
+
+    @Test
+    @DisplayName("Analiza ADN empaquetado con el mismo hash que el camino de Strings")
+    void testAnalyzePackedDna() {
+        // Arrange
+        PackedDna packed = PackedDna.of(mutantDna);
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
+        when(mutantDetector.isMutantPacked(packed)).thenReturn(true);
+        when(dnaRecordRepository.insertIgnore(any())).thenReturn(true);
+
+        // Act
+        boolean result = mutantService.analyzePackedDna(packed);
+
+        // Assert
+        assertTrue(result);
+        verify(mutantDetector, never()).isMutant(any());
+        verify(dnaRecordRepository, times(1)).insertIgnore(argThat(record ->
+                record.isMutant() && DnaHash.of(record.getDnaHash()).equals(dnaHasher.hash(mutantDna))));
+        verify(statsService, times(1)).recordNewDna(true);
+    }
+
+    // ==================== CONCURRENCIA ====================
+
+    @Test
+    @DisplayName("Si otra transacción insertó el mismo hash, devuelve el veredicto sin error ni estadísticas")
+    void testConcurrentInsertIsIgnored() {
+        // Arrange
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        when(dnaRecordRepository.insertIgnore(any())).thenReturn(false);
+
+        // Act
+        boolean result = mutantService.analyzeDna(mutantDna);
+
+        // Assert
+        assertTrue(result);
+        verify(statsService, never()).recordNewDna(anyBoolean());
+        verify(verdictCache, times(1)).put(any(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Los análisis concurrentes del mismo ADN comparten una detección y una inserción")
+    void testConcurrentDuplicatesAreCoalesced() throws Exception {
+        // Arrange
+        CountDownLatch detecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
+        when(dnaRecordRepository.insertIgnore(any())).thenReturn(true);
+        when(mutantDetector.isMutant(any())).thenAnswer(invocation -> {
+            detecting.countDown();
+            release.await();
+            return true;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<Boolean> leader = executor.submit(() -> mutantService.analyzeDna(mutantDna));
+            detecting.await();
+            List<Thread> waiting = new ArrayList<>();
+            List<Future<Boolean>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(executor.submit(() -> {
+                    synchronized (waiting) {
+                        waiting.add(Thread.currentThread());
+                    }
+                    return mutantService.analyzeDna(mutantDna.clone());
+                }));
+            }
+            awaitParked(waiting, 7);
+
+            // Act
+            release.countDown();
+
+            // Assert
+            assertTrue(leader.get(5, TimeUnit.SECONDS));
+            for (Future<Boolean> follower : followers) {
+                assertTrue(follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(mutantDetector, times(1)).isMutant(any());
+        verify(dnaRecordRepository, times(1)).findByDnaHash(any());
+        verify(dnaRecordRepository, times(1)).insertIgnore(any());
+        verify(statsService, times(1)).recordNewDna(true);
+    }
+
+    @Test
+    @DisplayName("Un error del análisis en curso llega a quienes lo esperaban y no bloquea el hash")
+    void testCoalescedFailureIsPropagated() throws Exception {
+        // Arrange
+        CountDownLatch detecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
+        when(dnaRecordRepository.insertIgnore(any())).thenReturn(true);
+        when(mutantDetector.isMutant(any()))
+                .thenAnswer(invocation -> {
+                    detecting.countDown();
+                    release.await();
+                    throw new IllegalStateException("falla del detector");
+                })
+                .thenReturn(true);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> leader = executor.submit(() -> mutantService.analyzeDna(mutantDna));
+            detecting.await();
+            List<Thread> waiting = new ArrayList<>();
+            Future<Boolean> follower = executor.submit(() -> {
+                synchronized (waiting) {
+                    waiting.add(Thread.currentThread());
+                }
+                return mutantService.analyzeDna(mutantDna);
+            });
+            awaitParked(waiting, 1);
+
+            // Act
+            release.countDown();
+
+            // Assert
+            ExecutionException leaderError = assertThrows(ExecutionException.class,
+                    () -> leader.get(5, TimeUnit.SECONDS));
+            ExecutionException followerError = assertThrows(ExecutionException.class,
+                    () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+            assertInstanceOf(IllegalStateException.class, followerError.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(mutantService.analyzeDna(mutantDna));
+        verify(mutantDetector, times(2)).isMutant(any());
+    }
+
+    // ==================== FILTRO DE BLOOM ====================
+
+    @Test
+    @DisplayName("Un negativo del filtro de Bloom evita la búsqueda por hash")
+    void testBloomNegativeSkipsLookup() {
+        // Arrange
+        doReturn(false).when(bloomFilter).mightContain(any());
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        when(dnaRecordRepository.insertIgnore(any(DnaRecord.class))).thenReturn(true);
+
+        // Act
+        boolean result = mutantService.analyzeDna(mutantDna);
+
+        // Assert
+        assertTrue(result);
+        verify(dnaRecordRepository, never()).findByDnaHash(any());
+        verify(dnaRecordRepository, times(1)).insertIgnore(any(DnaRecord.class));
+        verify(bloomFilter, times(1)).put(dnaHasher.hash(mutantDna));
+        verify(bloomFilter, never()).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("Un positivo que la búsqueda no encuentra se cuenta como falso positivo")
+    void testBloomFalsePositiveIsRecorded() {
+        // Arrange
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
+        when(mutantDetector.isMutant(humanDna)).thenReturn(false);
+        when(dnaRecordRepository.insertIgnore(any(DnaRecord.class))).thenReturn(true);
+
+        // Act
+        mutantService.analyzeDna(humanDna);
+
+        // Assert
+        verify(dnaRecordRepository, times(1)).findByDnaHash(any());
+        verify(bloomFilter, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("Un lote solo consulta los hashes que el filtro de Bloom no descarta")
+    void testAnalyzeBatchSkipsBloomNegatives() {
+        // Arrange
+        DnaHash humanHash = dnaHasher.hash(humanDna);
+        doAnswer(invocation -> invocation.getArgument(0).equals(humanHash))
+                .when(bloomFilter).mightContain(any());
+        when(verdictCache.get(any())).thenReturn(Optional.empty());
+        when(dnaRecordRepository.findByDnaHashIn(anyCollection())).thenReturn(List.of());
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        when(mutantDetector.isMutant(humanDna)).thenReturn(false);
+        when(dnaRecordRepository.insertIgnoreAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<Boolean> results = mutantService.analyzeDnaBatch(List.of(mutantDna, humanDna));
+
+        // Assert
+        assertEquals(List.of(true, false), results);
+        verify(dnaRecordRepository, times(1)).findByDnaHashIn(argThat(hashes -> hashes.size() == 1));
+        verify(bloomFilter, times(1)).recordFalsePositives(1);
+        verify(dnaRecordRepository, times(1)).insertIgnoreAll(argThat(records -> records.size() == 2));
+    }
+
+    // ==================== LOTES ====================
+
+    @Test
+    @DisplayName("Analiza un lote con una sola consulta y un solo insert, deduplicando dentro del lote")
+    void testAnalyzeBatchDeduplicatesAndPersistsOnce() {
+        // Arrange
+        String[] existingDna = {"AAAA", "CCCC", "TATA", "GAGA"};
+        DnaRecord existingRecord = new DnaRecord();
+        existingRecord.setDnaHash(dnaHasher.hash(existingDna).bytes());
+        existingRecord.setMutant(true);
+
+        when(verdictCache.get(any())).thenReturn(Optional.empty());
+        when(dnaRecordRepository.findByDnaHashIn(anyCollection())).thenReturn(List.of(existingRecord));
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        when(mutantDetector.isMutant(humanDna)).thenReturn(false);
+        when(dnaRecordRepository.insertIgnoreAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<Boolean> results = mutantService.analyzeDnaBatch(
+                List.of(mutantDna, humanDna, mutantDna.clone(), existingDna));
+
+        // Assert
+        assertEquals(List.of(true, false, true, true), results);
+        verify(dnaRecordRepository, times(1)).findByDnaHashIn(argThat(hashes -> hashes.size() == 3));
+        verify(dnaRecordRepository, never()).findByDnaHash(any());
+        verify(mutantDetector, times(1)).isMutant(mutantDna);
+        verify(mutantDetector, never()).isMutant(existingDna);
+        verify(dnaRecordRepository, times(1)).insertIgnoreAll(argThat(records -> records.size() == 2));
+        verify(statsService, times(1)).recordNewDna(true);
+        verify(statsService, times(1)).recordNewDna(false);
+    }
+
+    @Test
+    @DisplayName("Un lote totalmente en caché no consulta la base ni persiste")
+    void testAnalyzeBatchFromCache() {
+        // Arrange
+        when(verdictCache.get(any())).thenReturn(Optional.of(false));
+
+        // Act
+        List<Boolean> results = mutantService.analyzeDnaBatch(List.of(humanDna, humanDna));
+
+        // Assert
+        assertEquals(List.of(false, false), results);
+        verify(dnaRecordRepository, never()).findByDnaHashIn(anyCollection());
+        verify(dnaRecordRepository, never()).insertIgnoreAll(anyList());
+        verify(mutantDetector, never()).isMutant(any());
+    }
+
+    // ==================== MÉTRICAS ====================
+
+    @Test
+    @DisplayName("Registra detección por tamaño y veredicto, y la persistencia síncrona")
+    void testMetricsForNewDna() {
+        // Arrange
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.empty());
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+
+        // Act
+        mutantService.analyzeDna(mutantDna);
+
+        // Assert
+        assertEquals(1, meterRegistry.get("dna.hash").timer().count());
+        assertEquals(1, meterRegistry.get("dna.lookup").tag("query", "single").timer().count());
+        assertEquals(1, meterRegistry.get("dna.detection")
+                .tag("size", "4-10").tag("verdict", "mutant").timer().count());
+        assertEquals(0, meterRegistry.get("dna.detection")
+                .tag("size", "4-10").tag("verdict", "human").timer().count());
+        assertEquals(1, meterRegistry.get("dna.persist").tag("mode", "sync").timer().count());
+    }
+
+    @Test
+    @DisplayName("Cuenta los hits de deduplicación por origen")
+    void testMetricsForDedupHits() {
+        // Arrange
+        DnaRecord existingRecord = new DnaRecord();
+        existingRecord.setMutant(false);
+        when(verdictCache.get(any())).thenReturn(Optional.empty()).thenReturn(Optional.of(false));
+        when(dnaRecordRepository.findByDnaHash(any())).thenReturn(Optional.of(existingRecord));
+
+        // Act
+        mutantService.analyzeDna(humanDna);
+        mutantService.analyzeDna(humanDna);
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("dna.dedup.hits").tag("source", "database").counter().count());
+        assertEquals(1.0, meterRegistry.get("dna.dedup.hits").tag("source", "cache").counter().count());
+        assertEquals(0, meterRegistry.get("dna.persist").tag("mode", "sync").timer().count());
+    }
+
+    /**
+     * Espera a que los hilos queden bloqueados esperando el análisis en curso.
+     */
+    private static void awaitParked(List<Thread> threads, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (threads) {
+                if (threads.size() == expected
+                        && threads.stream().allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING)) {
+                    return;
+                }
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Los hilos no llegaron a esperar el análisis en curso");
     }
 }
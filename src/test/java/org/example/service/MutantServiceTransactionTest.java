@@ -0,0 +1,146 @@
+package org.example.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.example.repository.DnaRecordRepository;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Tests de integración de los límites de transacción de MutantService (H2 en
+ * memoria, caché y filtro de Bloom habilitados): rollbacks y análisis agrupados.
+ */
+@SpringBootTest
+@DisplayName("MutantService - Tests de Integración de Transacciones")
+class MutantServiceTransactionTest {
+
+    private static final int WAITERS = 4;
+
+    @Autowired
+    private MutantService mutantService;
+
+    @Autowired
+    private DnaRecordRepository dnaRecordRepository;
+
+    @Autowired
+    private DnaHasher dnaHasher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @SpyBean
+    private MutantDetector mutantDetector;
+
+    @Test
+    @DisplayName("Tras un rollback el mismo ADN se vuelve a persistir en el próximo request")
+    void testRollbackDoesNotCacheVerdict() {
+        // Arrange
+        String[] dna = randomMatrix(8, new Random(31));
+        transactionTemplate.executeWithoutResult(status -> {
+            mutantService.analyzeDna(dna.clone());
+            status.setRollbackOnly();
+        });
+        assertTrue(dnaRecordRepository.findByDnaHash(dnaHasher.hash(dna).bytes()).isEmpty());
+
+        // Act
+        mutantService.analyzeDna(dna.clone());
+
+        // Assert
+        assertTrue(dnaRecordRepository.findByDnaHash(dnaHasher.hash(dna).bytes()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Tras un rollback del lote los mismos ADN se vuelven a persistir")
+    void testBatchRollbackDoesNotCacheVerdicts() {
+        // Arrange
+        Random random = new Random(32);
+        List<String[]> dnas = List.of(randomMatrix(8, random), randomMatrix(8, random));
+        transactionTemplate.executeWithoutResult(status -> {
+            mutantService.analyzeDnaBatch(dnas);
+            status.setRollbackOnly();
+        });
+
+        // Act
+        mutantService.analyzeDnaBatch(dnas);
+
+        // Assert
+        List<byte[]> hashes = dnas.stream().map(dna -> dnaHasher.hash(dna).bytes()).toList();
+        assertEquals(2, dnaRecordRepository.findByDnaHashIn(hashes).size());
+    }
+
+    @Test
+    @DisplayName("Quienes esperan el mismo ADN no ocupan conexiones y reciben el veredicto tras el commit")
+    void testSingleFlightWaitersOutsideTransaction() throws Exception {
+        // Arrange: el primer análisis se bloquea en la detección
+        String[] dna = randomMatrix(8, new Random(33));
+        byte[] hash = dnaHasher.hash(dna).bytes();
+        CountDownLatch detecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            detecting.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return invocation.callRealMethod();
+        }).when(mutantDetector).isMutant(any(String[].class));
+        HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        ExecutorService executor = Executors.newFixedThreadPool(WAITERS + 1);
+
+        // Act
+        Future<Boolean> leader = executor.submit(() -> mutantService.analyzeDna(dna.clone()));
+        assertTrue(detecting.await(10, TimeUnit.SECONDS));
+        List<Future<Boolean>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(executor.submit(() -> {
+                boolean isMutant = mutantService.analyzeDna(dna.clone());
+                // El veredicto compartido llega con el registro ya confirmado
+                return isMutant == dnaRecordRepository.findByDnaHash(hash).orElseThrow().isMutant();
+            }));
+        }
+        Thread.sleep(200);
+        int activeWhileWaiting = pool.getActiveConnections();
+        release.countDown();
+
+        // Assert
+        leader.get(10, TimeUnit.SECONDS);
+        for (Future<Boolean> waiter : waiters) {
+            assertTrue(waiter.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, activeWhileWaiting);
+        executor.shutdown();
+    }
+
+    private static String[] randomMatrix(int n, Random random) {
+        String bases = "ACGT";
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            StringBuilder sb = new StringBuilder(n);
+            for (int col = 0; col < n; col++) {
+                sb.append(bases.charAt(random.nextInt(4)));
+            }
+            dna[row] = sb.toString();
+        }
+        return dna;
+    }
+}
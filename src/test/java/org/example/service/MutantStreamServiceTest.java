@@ -0,0 +1,141 @@
+package org.example.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import org.example.validator.DnaRequestItemValidator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Tests unitarios para el análisis NDJSON de MutantStreamService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MutantStreamService - Tests Unitarios")
+class MutantStreamServiceTest {
+
+    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    private static final String MUTANT_LINE = "{\"dna\":[\"AAAA\",\"CCCC\",\"TATA\",\"GAGA\"]}";
+    private static final String HUMAN_LINE = "{\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"]}";
+    private static final String INVALID_LINE = "{\"dna\":[\"AAAX\",\"CCCC\",\"TATA\",\"GAGA\"]}";
+
+    @Mock
+    private MutantService mutantService;
+
+    private MutantStreamService streamService;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() {
+        streamService = new MutantStreamService(mutantService,
+                new DnaRequestItemValidator(VALIDATOR_FACTORY.getValidator()), new ObjectMapper(), 2);
+    }
+
+    @AfterAll
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente al terminar los tests
+    static void closeValidatorFactory() {
+        VALIDATOR_FACTORY.close();
+    }
+
+    @Test
+    @DisplayName("Escribe un resultado por línea, en orden, procesando por bloques")
+    void testWritesOneResultPerLineInChunks() throws IOException {
+        // Arrange
+        when(mutantService.analyzeDnaBatch(anyList()))
+                .thenReturn(List.of(true, false))
+                .thenReturn(List.of(true));
+        String input = MUTANT_LINE + "\n" + HUMAN_LINE + "\n\n" + MUTANT_LINE + "\n";
+
+        // Act
+        String output = analyze(input);
+
+        // Assert
+        assertEquals("{\"mutant\":true}\n{\"mutant\":false}\n{\"mutant\":true}\n", output);
+        verify(mutantService, times(2)).analyzeDnaBatch(anyList());
+        verify(mutantService).analyzeDnaBatch(argThat(dnas -> dnas.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Informa los items inválidos sin enviarlos a analizar")
+    void testReportsInvalidItems() throws IOException {
+        // Arrange
+        when(mutantService.analyzeDnaBatch(anyList())).thenReturn(List.of(false));
+
+        // Act
+        String[] lines = analyze(INVALID_LINE + "\nnull\n" + HUMAN_LINE).split("\n");
+
+        // Assert
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"error\":"));
+        assertEquals("{\"error\":\"El ADN no puede ser nulo\"}", lines[1]);
+        assertEquals("{\"mutant\":false}", lines[2]);
+    }
+
+    @Test
+    @DisplayName("Una línea con JSON inválido corta el stream con un error")
+    void testStopsOnMalformedJson() throws IOException {
+        // Arrange
+        when(mutantService.analyzeDnaBatch(anyList())).thenReturn(List.of(true));
+
+        // Act
+        String[] lines = analyze(MUTANT_LINE + "\n{\"dna\": [\"AAAA\",\n" + HUMAN_LINE).split("\n");
+
+        // Assert
+        assertEquals(2, lines.length);
+        assertEquals("{\"mutant\":true}", lines[0]);
+        assertTrue(lines[1].startsWith("{\"error\":\"JSON inválido"));
+    }
+
+    @Test
+    @DisplayName("Un cuerpo vacío no analiza nada ni escribe líneas")
+    void testEmptyBody() throws IOException {
+        assertEquals("", analyze(""));
+        assertEquals("", analyze("\n\n"));
+        verify(mutantService, never()).analyzeDnaBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Procesa miles de líneas sin cargar el cuerpo completo")
+    void testLargeStream() throws IOException {
+        // Arrange
+        when(mutantService.analyzeDnaBatch(anyList())).thenReturn(List.of(true, true));
+        String input = String.join("\n", Collections.nCopies(10_000, MUTANT_LINE));
+
+        // Act
+        long processed = streamService.analyze(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), new ByteArrayOutputStream());
+
+        // Assert
+        assertEquals(10_000, processed);
+        verify(mutantService, times(5_000)).analyzeDnaBatch(anyList());
+    }
+
+    private String analyze(String input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        streamService.analyze(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
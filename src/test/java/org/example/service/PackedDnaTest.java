@@ -0,0 +1,75 @@
+package org.example.service;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para PackedDna.
+ */
+@DisplayName("PackedDna - Tests Unitarios")
+class PackedDnaTest {
+
+    @Test
+    @DisplayName("Empaqueta filas de Strings y las reconstruye")
+    void testOfAndToRows() {
+        String[] dna = {"ATGC", "CAGT", "TTAT", "AGAC"};
+
+        PackedDna packed = PackedDna.of(dna);
+
+        assertEquals(4, packed.size());
+        assertEquals(0, packed.code(0, 0));
+        assertEquals(3, packed.code(0, 1));
+        assertArrayEquals(dna, packed.toRows());
+    }
+
+    @Test
+    @DisplayName("Rechaza ADN inválido")
+    void testOfInvalidDna() {
+        assertNull(PackedDna.of(null));
+        assertNull(PackedDna.of(new String[]{}));
+        assertNull(PackedDna.of(new String[]{"AAAA", "AAA", "AAAA", "AAAA"}));
+        assertNull(PackedDna.of(new String[]{"AAAA", "AAXA", "AAAA", "AAAA"}));
+    }
+
+    @Test
+    @DisplayName("El builder empaqueta desde bytes igual que desde Strings")
+    void testBuilderMatchesOf() {
+        String[] dna = new String[40];
+        for (int row = 0; row < 40; row++) {
+            dna[row] = "ACGT".repeat(10).substring(row % 4) + "ACGT".substring(0, row % 4);
+        }
+        byte[] bytes = ("xx" + String.join("", dna)).getBytes(StandardCharsets.US_ASCII);
+
+        PackedDna.Builder builder = new PackedDna.Builder(40);
+        for (int row = 0; row < 40; row++) {
+            assertTrue(builder.appendRow(bytes, 2 + row * 40, 40));
+        }
+
+        assertArrayEquals(dna, builder.build().toRows());
+    }
+
+    @Test
+    @DisplayName("El builder rechaza filas inválidas, de más y matrices incompletas")
+    void testBuilderRejectsInvalidRows() {
+        byte[] bytes = "ACGTACGXACG".getBytes(StandardCharsets.US_ASCII);
+        PackedDna.Builder builder = new PackedDna.Builder(4);
+
+        assertFalse(builder.appendRow(bytes, 4, 4));
+        assertFalse(builder.appendRow(bytes, 0, 3));
+        assertTrue(builder.appendRow(bytes, 0, 4));
+        assertNull(builder.build());
+
+        PackedDna.Builder full = new PackedDna.Builder(4);
+        for (int row = 0; row < 4; row++) {
+            assertTrue(full.appendRow(bytes, 0, 4));
+        }
+        assertFalse(full.appendRow(bytes, 0, 4));
+    }
+}
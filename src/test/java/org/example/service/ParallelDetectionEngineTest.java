@@ -0,0 +1,122 @@
+package org.example.service;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests de equivalencia entre ParallelDetectionEngine y el escaneo escalar.
+ */
+@DisplayName("ParallelDetectionEngine - Tests de Equivalencia")
+class ParallelDetectionEngineTest {
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private ForkJoinPool pool;
+    private ParallelDetectionEngine engine;
+    private MutantDetector scalarDetector;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        engine = new ParallelDetectionEngine(pool);
+        scalarDetector = new MutantDetector();
+    }
+
+    @AfterEach
+    @SuppressWarnings("unused")
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Detecta humano grande sin secuencias")
+    void testLargeHuman() {
+        assertFalse(engine.isMutant(humanMatrix(500)));
+    }
+
+    @Test
+    @DisplayName("Cuenta secuencias que cruzan el límite entre franjas")
+    void testSequencesAcrossBandBoundary() {
+        String[] dna = humanMatrix(300);
+        // Vertical que empieza en la última fila de una franja de 64
+        setVertical(dna, 62, 10, 'A');
+        assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna));
+
+        setVertical(dna, 126, 200, 'T');
+        assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna));
+        assertTrue(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Rechaza ADN inválido igual que el escaneo escalar")
+    void testInvalidDna() {
+        assertFalse(engine.isMutant(null));
+        assertFalse(engine.isMutant(new String[]{}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", "AAAA", "AAXA", "AAAA"}));
+    }
+
+    @Test
+    @DisplayName("Da el mismo resultado que el escaneo escalar con secuencias dispersas")
+    void testSparseSequencesMatchScalar() {
+        Random random = new Random(3);
+
+        for (int i = 0; i < 100; i++) {
+            int n = 100 + random.nextInt(300);
+            String[] dna = humanMatrix(n);
+            int sequences = random.nextInt(3);
+            for (int s = 0; s < sequences; s++) {
+                setVertical(dna, random.nextInt(n - 3), random.nextInt(n), BASES[random.nextInt(4)]);
+            }
+            assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna));
+        }
+    }
+
+    @Test
+    @DisplayName("MutantDetector usa el modo paralelo solo por encima del umbral")
+    void testConfiguredDetectorMatchesScalar() {
+        MutantDetector parallelDetector = new MutantDetector("scalar", 100, 2);
+        try {
+            String[] small = {"AAAA", "CCCC", "TATA", "GAGA"};
+            String[] large = humanMatrix(250);
+            setVertical(large, 10, 5, 'G');
+            setVertical(large, 200, 240, 'C');
+
+            assertTrue(parallelDetector.isMutant(small));
+            assertEquals(scalarDetector.isMutant(large), parallelDetector.isMutant(large));
+        } finally {
+            parallelDetector.shutdown();
+        }
+    }
+
+    /**
+     * Matriz sin ninguna secuencia de 4 en ninguna dirección.
+     */
+    private static String[] humanMatrix(int n) {
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = BASES[(col + 2 * (row % 2) + (row / 2) % 2) % 4];
+            }
+            dna[row] = new String(chars);
+        }
+        return dna;
+    }
+
+    private static void setVertical(String[] dna, int row, int col, char base) {
+        for (int k = 0; k < 4; k++) {
+            char[] chars = dna[row + k].toCharArray();
+            chars[col] = base;
+            dna[row + k] = new String(chars);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.service;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests de equivalencia entre RunLengthDetectionEngine y el escaneo escalar.
+ */
+@DisplayName("RunLengthDetectionEngine - Tests de Equivalencia")
+class RunLengthDetectionEngineTest {
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private RunLengthDetectionEngine engine;
+    private MutantDetector scalarDetector;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() {
+        engine = new RunLengthDetectionEngine();
+        scalarDetector = new MutantDetector();
+    }
+
+    // ==================== TESTS DE DIRECCIONES ====================
+
+    @Test
+    @DisplayName("Detecta mutante con secuencias horizontales")
+    void testHorizontalSequences() {
+        String[] dna = {
+            "AAAATG",
+            "TGCAGT",
+            "GCTTCC",
+            "CCCCTG",
+            "GTAGTC",
+            "AGTCAC"
+        };
+        assertTrue(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Detecta mutante con secuencias verticales")
+    void testVerticalSequences() {
+        String[] dna = {
+            "AGAATG",
+            "GGCAGT",
+            "GGTTCC",
+            "GGCCTG",
+            "GGAGTC",
+            "AGTCAC"
+        };
+        assertTrue(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Detecta mutante con secuencias diagonales en ambos sentidos")
+    void testDiagonalSequences() {
+        String[] dna = {
+            "ACGTCT",
+            "GACCTG",
+            "CGATGC",
+            "GCTAGC",
+            "TGCAGT",
+            "CATGCA"
+        };
+        assertEquals(2, engine.countSequences(dna));
+        assertTrue(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Detecta humano con una sola secuencia")
+    void testHumanWithOneSequence() {
+        String[] dna = {
+            "ATGCGA",
+            "CAGTGC",
+            "TTATTT",
+            "AGACGG",
+            "GCGTCA",
+            "TCACTG"
+        };
+        assertFalse(engine.isMutant(dna));
+    }
+
+    // ==================== TESTS DE CONTEO ====================
+
+    @Test
+    @DisplayName("Una racha de 5 cuenta dos secuencias solapadas, igual que el escaneo escalar")
+    void testOverlappingSequences() {
+        String[] dna = {
+            "AAAAAC",
+            "GAACTC",
+            "GTGTTG",
+            "TCGAGC",
+            "GACGGA",
+            "ATTAGA"
+        };
+        assertEquals(2, engine.countSequences(dna));
+        assertTrue(engine.isMutant(dna));
+        assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Cuenta las mismas ventanas que una búsqueda por fuerza bruta")
+    void testCountMatchesBruteForce() {
+        Random random = new Random(7);
+        int[] sizes = {4, 5, 6, 7, 10, 17, 40};
+
+        for (int n : sizes) {
+            for (int i = 0; i < 200; i++) {
+                String[] dna = randomMatrix(random, n, random.nextInt(3) + 2);
+                assertEquals(bruteForceCount(dna), engine.countSequences(dna),
+                        () -> "Diferencia para matriz " + String.join(",", dna));
+            }
+        }
+    }
+
+    // ==================== TESTS DE VALIDACIÓN ====================
+
+    @Test
+    @DisplayName("Rechaza ADN inválido igual que el escaneo escalar")
+    void testInvalidDna() {
+        assertFalse(engine.isMutant(null));
+        assertFalse(engine.isMutant(new String[]{}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", "AAAA", "AAAA"}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", null, "AAAA", "AAAA"}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", "AAAA", "AAXA", "AAAA"}));
+    }
+
+    @Test
+    @DisplayName("Rechaza una fila inválida posterior a la salida anticipada")
+    void testInvalidRowAfterEarlyExit() {
+        String[] dna = {
+            "AAAAAA",
+            "CGTCGT",
+            "TCGTCG",
+            "GTCGTC",
+            "CGTCGA",
+            "TCGXCG"
+        };
+        assertFalse(engine.isMutant(dna));
+        assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna));
+    }
+
+    // ==================== TESTS DE EQUIVALENCIA ====================
+
+    @Test
+    @DisplayName("Da el mismo resultado que el escaneo escalar en todas las matrices 4x4 de dos bases")
+    void testAllBinary4x4MatricesMatchScalar() {
+        for (int bits = 0; bits < 1 << 16; bits++) {
+            String[] dna = new String[4];
+            for (int row = 0; row < 4; row++) {
+                char[] chars = new char[4];
+                for (int col = 0; col < 4; col++) {
+                    chars[col] = ((bits >>> (row * 4 + col)) & 1) == 0 ? 'A' : 'C';
+                }
+                dna[row] = new String(chars);
+            }
+            assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna),
+                    () -> "Diferencia para matriz " + String.join(",", dna));
+        }
+    }
+
+    @Test
+    @DisplayName("Da el mismo resultado que el escaneo escalar en matrices aleatorias")
+    void testRandomMatricesMatchScalar() {
+        Random random = new Random(42);
+        int[] sizes = {1, 3, 4, 5, 6, 7, 10, 31, 32, 33, 63, 64, 65, 100};
+
+        for (int n : sizes) {
+            for (int i = 0; i < 200; i++) {
+                String[] dna = randomMatrix(random, n, random.nextInt(3) + 2);
+                assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna),
+                        () -> "Diferencia para matriz " + String.join(",", dna));
+            }
+        }
+    }
+
+    /**
+     * Genera una matriz aleatoria con un alfabeto reducido para provocar secuencias.
+     */
+    private static String[] randomMatrix(Random random, int n, int alphabet) {
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = BASES[random.nextInt(alphabet)];
+            }
+            dna[row] = new String(chars);
+        }
+        return dna;
+    }
+
+    /**
+     * Cuenta cada ventana de 4 celdas iguales desde cada celda de inicio y dirección.
+     */
+    private static int bruteForceCount(String[] dna) {
+        int n = dna.length;
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        int count = 0;
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                for (int[] direction : directions) {
+                    int endRow = row + 3 * direction[0];
+                    int endCol = col + 3 * direction[1];
+                    if (endRow >= n || endCol < 0 || endCol >= n) {
+                        continue;
+                    }
+                    char base = dna[row].charAt(col);
+                    boolean match = true;
+                    for (int k = 1; k < 4 && match; k++) {
+                        match = dna[row + k * direction[0]].charAt(col + k * direction[1]) == base;
+                    }
+                    if (match) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,233 @@
+package org.example.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para SingleFlight.
+ */
+@DisplayName("SingleFlight - Tests Unitarios")
+class SingleFlightTest {
+
+    private static final DnaHash HASH = DnaHash.of(new byte[]{1, 2, 3, 4});
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DnaMetrics dnaMetrics = new DnaMetrics(meterRegistry);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente después de cada test
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    // ==================== AGRUPAMIENTO ====================
+
+    @Test
+    @DisplayName("Los pedidos concurrentes del mismo hash comparten una ejecución")
+    void testConcurrentCallsShareOneExecution() throws Exception {
+        // Arrange
+        SingleFlight singleFlight = new SingleFlight(dnaMetrics, true, 5_000);
+        Future<Boolean> leader = executor.submit(() -> singleFlight.execute(HASH, this::blockingAnalysis));
+        started.await();
+        List<Future<Boolean>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(HASH, this::blockingAnalysis)));
+        }
+        awaitWaits(singleFlight, 5);
+
+        // Act
+        release.countDown();
+
+        // Assert
+        assertTrue(leader.get(5, TimeUnit.SECONDS));
+        for (Future<Boolean> follower : followers) {
+            assertTrue(follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(0, singleFlight.size());
+        assertEquals(5.0, waits("shared"));
+    }
+
+    @Test
+    @DisplayName("Hashes distintos no se agrupan")
+    void testDifferentHashesAreIndependent() {
+        SingleFlight singleFlight = new SingleFlight(dnaMetrics, true, 5_000);
+
+        assertTrue(singleFlight.execute(HASH, () -> true));
+        assertFalse(singleFlight.execute(DnaHash.of(new byte[]{9}), () -> false));
+        assertEquals(0, singleFlight.size());
+    }
+
+    // ==================== FALLAS Y TIMEOUTS ====================
+
+    @Test
+    @DisplayName("Una falla se propaga a quienes esperaban y no deja el hash bloqueado")
+    void testFailureIsPropagatedAndDoesNotPoisonTheKey() throws Exception {
+        // Arrange
+        SingleFlight singleFlight = new SingleFlight(dnaMetrics, true, 5_000);
+        IllegalStateException failure = new IllegalStateException("falla de la base de datos");
+        Future<Boolean> leader = executor.submit(() -> singleFlight.execute(HASH, () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        }));
+        started.await();
+        Future<Boolean> follower = executor.submit(() -> singleFlight.execute(HASH, () -> true));
+        awaitWaits(singleFlight, 1);
+
+        // Act
+        release.countDown();
+
+        // Assert
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerError = assertThrows(ExecutionException.class,
+                () -> follower.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderError.getCause());
+        assertSame(failure, followerError.getCause());
+        assertEquals(1.0, waits("failed"));
+        assertTrue(singleFlight.execute(HASH, () -> true));
+    }
+
+    @Test
+    @DisplayName("Vencido el timeout, quien espera analiza por su cuenta")
+    void testTimeoutFallsBackToOwnAnalysis() throws Exception {
+        // Arrange
+        SingleFlight singleFlight = new SingleFlight(dnaMetrics, true, 50);
+        Future<Boolean> leader = executor.submit(() -> singleFlight.execute(HASH, this::blockingAnalysis));
+        started.await();
+
+        // Act
+        boolean ownVerdict = singleFlight.execute(HASH, () -> false);
+        Thread.sleep(60);
+        boolean afterTimeout = singleFlight.execute(HASH, () -> false);
+
+        // Assert
+        assertFalse(ownVerdict);
+        assertFalse(afterTimeout);
+        assertEquals(2.0, waits("timeout"));
+        release.countDown();
+        assertTrue(leader.get(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.size());
+    }
+
+    @Test
+    @DisplayName("Una espera interrumpida falla sin analizar y conserva el flag de interrupción")
+    void testInterruptedWaitDoesNotAnalyze() throws Exception {
+        // Arrange
+        SingleFlight singleFlight = new SingleFlight(dnaMetrics, true, 5_000);
+        Future<Boolean> leader = executor.submit(() -> singleFlight.execute(HASH, this::blockingAnalysis));
+        started.await();
+        AtomicReference<RuntimeException> error = new AtomicReference<>();
+        AtomicBoolean stillInterrupted = new AtomicBoolean();
+        Thread follower = new Thread(() -> {
+            try {
+                singleFlight.execute(HASH, this::blockingAnalysis);
+            } catch (IllegalStateException e) {
+                error.set(e);
+                stillInterrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        follower.start();
+        awaitWaits(singleFlight, 1);
+
+        // Act
+        follower.interrupt();
+        follower.join(5_000);
+
+        // Assert
+        assertInstanceOf(InterruptedException.class, error.get().getCause());
+        assertTrue(stillInterrupted.get());
+        assertEquals(1, executions.get());
+        assertEquals(1.0, waits("interrupted"));
+        assertEquals(0.0, waits("timeout"));
+        release.countDown();
+        assertTrue(leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deshabilitado, cada pedido ejecuta su análisis")
+    void testDisabled() throws Exception {
+        // Arrange
+        SingleFlight singleFlight = new SingleFlight(dnaMetrics, false, 5_000);
+        Future<Boolean> first = executor.submit(() -> singleFlight.execute(HASH, this::blockingAnalysis));
+        started.await();
+
+        // Act
+        boolean second = singleFlight.execute(HASH, () -> false);
+        release.countDown();
+
+        // Assert
+        assertFalse(second);
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.size());
+    }
+
+    // ==================== HELPERS ====================
+
+    private boolean blockingAnalysis() {
+        executions.incrementAndGet();
+        started.countDown();
+        await(release);
+        return true;
+    }
+
+    private double waits(String outcome) {
+        return meterRegistry.get("dna.singleflight.waits").tag("outcome", outcome).counter().count();
+    }
+
+    /**
+     * Espera a que haya {@code expected} hilos esperando el análisis en curso
+     * (bloqueados en el get con timeout del future).
+     */
+    private static void awaitWaits(SingleFlight singleFlight, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            long waiting = Thread.getAllStackTraces().entrySet().stream()
+                    .filter(entry -> entry.getKey().getState() == Thread.State.TIMED_WAITING)
+                    .filter(entry -> Arrays.stream(entry.getValue())
+                            .anyMatch(frame -> frame.getClassName().equals(SingleFlight.class.getName())))
+                    .count();
+            if (waiting == expected && singleFlight.size() == 1) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("No llegaron " + expected + " hilos a esperar el análisis en curso");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para StartupLoader.
+ */
+@DisplayName("StartupLoader - Tests Unitarios")
+class StartupLoaderTest {
+
+    @Test
+    @DisplayName("Sin carga asíncrona ejecuta la tarea en el hilo que llama")
+    void testInlineLoad() {
+        // Arrange
+        StartupLoader loader = new StartupLoader(false);
+        AtomicReference<Thread> loadThread = new AtomicReference<>();
+
+        // Act
+        loader.run("test", () -> loadThread.set(Thread.currentThread()));
+
+        // Assert
+        assertSame(Thread.currentThread(), loadThread.get());
+        assertEquals(0, loader.pending());
+    }
+
+    @Test
+    @DisplayName("Con carga asíncrona no bloquea y la tarea corre en su propio hilo")
+    void testAsyncLoad() throws InterruptedException {
+        // Arrange
+        StartupLoader loader = new StartupLoader(true);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Thread> loadThread = new AtomicReference<>();
+
+        // Act
+        loader.run("test", () -> {
+            loadThread.set(Thread.currentThread());
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+
+        // Assert
+        assertEquals(1, loader.pending());
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), loadThread.get());
+        assertEquals("startup-load-test", loadThread.get().getName());
+        loadThread.get().join(5_000);
+        assertEquals(0, loader.pending());
+    }
+
+    @Test
+    @DisplayName("Una carga asíncrona que falla no queda pendiente")
+    void testAsyncLoadFailure() throws InterruptedException {
+        // Arrange
+        StartupLoader loader = new StartupLoader(true);
+        AtomicReference<Thread> loadThread = new AtomicReference<>();
+
+        // Act
+        loader.run("failing", () -> {
+            loadThread.set(Thread.currentThread());
+            throw new IllegalStateException("base de datos no disponible");
+        });
+
+        // Assert
+        while (loadThread.get() == null) {
+            Thread.onSpinWait();
+        }
+        loadThread.get().join(5_000);
+        assertEquals(0, loader.pending());
+    }
+}
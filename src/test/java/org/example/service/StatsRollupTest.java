@@ -0,0 +1,140 @@
+package org.example.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.example.dto.StatsBucket;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para StatsRollup.
+ */
+@DisplayName("StatsRollup - Tests Unitarios")
+class StatsRollupTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30, 15);
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final StatsRollup rollup = new StatsRollup(clock);
+
+    // ==================== BUCKETS ====================
+
+    @Test
+    @DisplayName("Cada inserción incrementa un bucket por minuto, hora y día")
+    void testRecordUpdatesEveryGranularity() {
+        // Arrange
+        rollup.record(true);
+        rollup.record(false);
+        rollup.record(false);
+        clock.advance(Duration.ofMinutes(45));
+        rollup.record(true);
+
+        // Act
+        List<StatsBucket> minutes = rollup.query(NOW.minusHours(1), NOW.plusHours(1), StatsGranularity.MINUTE);
+        List<StatsBucket> hours = rollup.query(NOW.minusHours(1), NOW.plusHours(1), StatsGranularity.HOUR);
+        List<StatsBucket> days = rollup.query(NOW.minusDays(1), NOW.plusDays(1), StatsGranularity.DAY);
+
+        // Assert
+        assertEquals(List.of(
+                new StatsBucket(LocalDateTime.of(2024, 1, 15, 10, 30), 1, 2, 0.5),
+                new StatsBucket(LocalDateTime.of(2024, 1, 15, 11, 15), 1, 0, 0.0)), minutes);
+        assertEquals(List.of(
+                new StatsBucket(LocalDateTime.of(2024, 1, 15, 10, 0), 1, 2, 0.5),
+                new StatsBucket(LocalDateTime.of(2024, 1, 15, 11, 0), 1, 0, 0.0)), hours);
+        assertEquals(List.of(new StatsBucket(LocalDateTime.of(2024, 1, 15, 0, 0), 2, 2, 1.0)), days);
+    }
+
+    @Test
+    @DisplayName("Devuelve los buckets que se solapan con [from, to)")
+    void testQueryRangeIsHalfOpen() {
+        // Arrange
+        rollup.load(StatsGranularity.HOUR, LocalDateTime.of(2024, 1, 15, 8, 0), true, 1);
+        rollup.load(StatsGranularity.HOUR, LocalDateTime.of(2024, 1, 15, 9, 0), true, 2);
+        rollup.load(StatsGranularity.HOUR, LocalDateTime.of(2024, 1, 15, 10, 0), true, 4);
+
+        // Act
+        List<StatsBucket> aligned = rollup.query(
+                LocalDateTime.of(2024, 1, 15, 9, 0), LocalDateTime.of(2024, 1, 15, 10, 0), StatsGranularity.HOUR);
+        List<StatsBucket> unaligned = rollup.query(
+                LocalDateTime.of(2024, 1, 15, 8, 59), LocalDateTime.of(2024, 1, 15, 10, 0, 1), StatsGranularity.HOUR);
+
+        // Assert
+        assertEquals(1, aligned.size());
+        assertEquals(2, aligned.get(0).getCountMutantDna());
+        assertEquals(3, unaligned.size());
+    }
+
+    // ==================== RETENCIÓN ====================
+
+    @Test
+    @DisplayName("Descarta los buckets por minuto vencidos y conserva los por hora")
+    void testMinuteRetention() {
+        // Arrange
+        rollup.record(true);
+        clock.advance(StatsRollup.MINUTE_RETENTION.plusMinutes(1));
+
+        // Act
+        rollup.record(false);
+        rollup.add(NOW, true, 1);
+
+        // Assert
+        List<StatsBucket> minutes = rollup.query(NOW.minusDays(1), clock.now().plusMinutes(1), StatsGranularity.MINUTE);
+        assertEquals(1, minutes.size());
+        assertEquals(1, minutes.get(0).getCountHumanDna());
+        List<StatsBucket> hours = rollup.query(NOW.minusHours(1), NOW.plusHours(1), StatsGranularity.HOUR);
+        assertEquals(2, hours.get(0).getCountMutantDna());
+    }
+
+    @Test
+    @DisplayName("clear descarta todos los buckets")
+    void testClear() {
+        rollup.record(true);
+
+        rollup.clear();
+
+        assertTrue(rollup.query(NOW.minusDays(1), NOW.plusDays(1), StatsGranularity.DAY).isEmpty());
+    }
+
+    /**
+     * Reloj que el test puede adelantar.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(LocalDateTime start) {
+            this.instant = start.toInstant(ZoneOffset.UTC);
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        LocalDateTime now() {
+            return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package org.example.service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.example.dto.StatsResponse;
+import org.example.dto.StatsWindowResponse;
+import org.example.exception.InvalidStatsQueryException;
 import org.example.repository.DnaRecordRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +39,7 @@ class StatsServiceTest {
         when(dnaRecordRepository.countByIsMutant(false)).thenReturn(100L);
 
         // Act
+        statsService.loadCounters();
         StatsResponse stats = statsService.getStats();
 
         // Assert
@@ -52,6 +59,7 @@ class StatsServiceTest {
         when(dnaRecordRepository.countByIsMutant(false)).thenReturn(0L);
 
         // Act
+        statsService.loadCounters();
         StatsResponse stats = statsService.getStats();
 
         // Assert
@@ -69,6 +77,7 @@ class StatsServiceTest {
         when(dnaRecordRepository.countByIsMutant(false)).thenReturn(0L);
 
         // Act
+        statsService.loadCounters();
         StatsResponse stats = statsService.getStats();
 
         // Assert
@@ -85,6 +94,7 @@ class StatsServiceTest {
         when(dnaRecordRepository.countByIsMutant(true)).thenReturn(50L);
         when(dnaRecordRepository.countByIsMutant(false)).thenReturn(50L);
 
+        statsService.loadCounters();
         StatsResponse stats = statsService.getStats();
         assertEquals(1.0, stats.getRatio(), 0.001);
     }
@@ -97,6 +107,7 @@ class StatsServiceTest {
         when(dnaRecordRepository.countByIsMutant(false)).thenReturn(0L);
 
         // Act
+        statsService.loadCounters();
         StatsResponse stats = statsService.getStats();
 
         // Assert
@@ -113,6 +124,7 @@ class StatsServiceTest {
         when(dnaRecordRepository.countByIsMutant(false)).thenReturn(20L);
 
         // Act
+        statsService.loadCounters();
         StatsResponse stats = statsService.getStats();
 
         // Assert
@@ -120,4 +132,196 @@ class StatsServiceTest {
         assertEquals(20L, stats.getCountHumanDna());
         assertEquals(0.0, stats.getRatio());
     }
+
+    // ==================== CONTADORES EN MEMORIA ====================
+
+    @Test
+    @DisplayName("Sirve las estadísticas desde memoria sin volver a contar")
+    void testGetStatsDoesNotQueryDatabase() {
+        // Arrange
+        when(dnaRecordRepository.countByIsMutant(true)).thenReturn(2L);
+        when(dnaRecordRepository.countByIsMutant(false)).thenReturn(4L);
+        statsService.loadCounters();
+
+        // Act
+        statsService.recordNewDna(true);
+        statsService.recordNewDna(false);
+        statsService.getStats();
+        StatsResponse stats = statsService.getStats();
+
+        // Assert
+        assertEquals(3L, stats.getCountMutantDna());
+        assertEquals(5L, stats.getCountHumanDna());
+        assertEquals(0.6, stats.getRatio(), 0.001);
+        verify(dnaRecordRepository, times(1)).countByIsMutant(true);
+        verify(dnaRecordRepository, times(1)).countByIsMutant(false);
+    }
+
+    @Test
+    @DisplayName("La carga conserva los registros sumados en vivo mientras corre")
+    void testLoadKeepsLiveIncrements() {
+        // Arrange: un ADN nuevo llega mientras la carga en segundo plano cuenta
+        when(dnaRecordRepository.countByIsMutant(true)).thenAnswer(invocation -> {
+            statsService.recordNewDna(true);
+            return 10L;
+        });
+        when(dnaRecordRepository.countByIsMutant(false)).thenReturn(20L);
+
+        // Act
+        statsService.loadCounters();
+        StatsResponse stats = statsService.getStats();
+        StatsWindowResponse window = statsService.getStats(LocalDateTime.now().minusMinutes(5), null, "minute");
+
+        // Assert
+        assertEquals(11L, stats.getCountMutantDna());
+        assertEquals(20L, stats.getCountHumanDna());
+        assertEquals(1L, window.getCountMutantDna());
+        // Los rollups solo cuentan los registros anteriores a la carga
+        verify(dnaRecordRepository, times(1))
+                .countByMinuteBetween(any(), argThat(before -> !before.isAfter(LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("Carga en línea al iniciar cuando la carga asíncrona está deshabilitada")
+    void testStartLoadingInline() {
+        // Arrange
+        StatsService inlineService = new StatsService(dnaRecordRepository, new StartupLoader(false));
+        when(dnaRecordRepository.countByIsMutant(true)).thenReturn(3L);
+        when(dnaRecordRepository.countByIsMutant(false)).thenReturn(4L);
+
+        // Act
+        inlineService.startLoading();
+
+        // Assert
+        assertEquals(3L, inlineService.getStats().getCountMutantDna());
+        assertEquals(4L, inlineService.getStats().getCountHumanDna());
+    }
+
+    @Test
+    @DisplayName("La conciliación corrige contadores desfasados con la base de datos")
+    void testReconcileFixesDrift() {
+        // Arrange
+        when(dnaRecordRepository.countByIsMutant(true)).thenReturn(10L, 12L);
+        when(dnaRecordRepository.countByIsMutant(false)).thenReturn(20L, 19L);
+        statsService.loadCounters();
+
+        // Act
+        statsService.reconcile();
+        StatsResponse stats = statsService.getStats();
+
+        // Assert
+        assertEquals(12L, stats.getCountMutantDna());
+        assertEquals(19L, stats.getCountHumanDna());
+    }
+
+    @Test
+    @DisplayName("Los incrementos concurrentes no se pierden")
+    void testConcurrentIncrements() throws InterruptedException {
+        // Arrange
+        when(dnaRecordRepository.countByIsMutant(anyBoolean())).thenReturn(0L);
+        statsService.loadCounters();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final boolean isMutant = t % 2 == 0;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    statsService.recordNewDna(isMutant);
+                }
+            });
+        }
+
+        // Act
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        StatsResponse stats = statsService.getStats();
+
+        // Assert
+        assertEquals(40_000L, stats.getCountMutantDna());
+        assertEquals(40_000L, stats.getCountHumanDna());
+        assertEquals(1.0, stats.getRatio(), 0.001);
+    }
+
+    // ==================== VENTANAS DE TIEMPO ====================
+
+    @Test
+    @DisplayName("Reconstruye los rollups desde la base de datos al iniciar")
+    void testLoadRollupsFromDatabase() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        List<Object[]> hours = List.of(
+                new Object[]{today.minusDays(3), 10, true, 4L},
+                new Object[]{today.minusDays(3), 11, false, 6L});
+        when(dnaRecordRepository.countByHourBefore(any())).thenReturn(hours);
+
+        // Act
+        statsService.loadCounters();
+        StatsWindowResponse byHour = statsService.getStats(today.minusDays(4).atStartOfDay(), null, "hour");
+        StatsWindowResponse byDay = statsService.getStats(today.minusDays(4).atStartOfDay(), null, "DAY");
+
+        // Assert
+        assertEquals(4L, byHour.getCountMutantDna());
+        assertEquals(6L, byHour.getCountHumanDna());
+        assertEquals(2, byHour.getBuckets().size());
+        assertEquals(today.minusDays(3).atTime(10, 0), byHour.getBuckets().get(0).getStart());
+        assertEquals(1, byDay.getBuckets().size());
+        assertEquals("day", byDay.getGranularity());
+        assertEquals(0.666, byDay.getRatio(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Una ventana no alineada se informa con los límites de los buckets que suma")
+    void testUnalignedWindowReportsBucketBounds() {
+        // Arrange
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<Object[]> hours = List.of(
+                new Object[]{yesterday, 10, true, 4L},
+                new Object[]{yesterday, 11, false, 6L});
+        when(dnaRecordRepository.countByHourBefore(any())).thenReturn(hours);
+        statsService.loadCounters();
+
+        // Act
+        StatsWindowResponse stats = statsService.getStats(
+                yesterday.atTime(10, 30), yesterday.atTime(11, 15), "hour");
+
+        // Assert
+        assertEquals(yesterday.atTime(10, 0), stats.getFrom());
+        assertEquals(yesterday.atTime(12, 0), stats.getTo());
+        assertEquals(4L, stats.getCountMutantDna());
+        assertEquals(6L, stats.getCountHumanDna());
+    }
+
+    @Test
+    @DisplayName("Las inserciones nuevas se reflejan en la ventana sin consultar la base de datos")
+    void testWindowedStatsIncludeNewDna() {
+        // Arrange
+        statsService.loadCounters();
+        LocalDateTime from = LocalDateTime.now().minusMinutes(10);
+
+        // Act
+        statsService.recordNewDna(true);
+        statsService.recordNewDna(false);
+        StatsWindowResponse stats = statsService.getStats(from, null, "minute");
+
+        // Assert
+        assertEquals(1L, stats.getCountMutantDna());
+        assertEquals(1L, stats.getCountHumanDna());
+        assertEquals(1.0, stats.getRatio(), 0.001);
+        assertFalse(stats.getBuckets().isEmpty());
+        verify(dnaRecordRepository, times(1)).countByHourBefore(any());
+    }
+
+    @Test
+    @DisplayName("Rechaza parámetros de ventana inválidos")
+    void testWindowedStatsRejectsInvalidParameters() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(InvalidStatsQueryException.class, () -> statsService.getStats(null, now, "hour"));
+        assertThrows(InvalidStatsQueryException.class, () -> statsService.getStats(now.minusHours(1), now, "week"));
+        assertThrows(InvalidStatsQueryException.class, () -> statsService.getStats(now, now.minusHours(1), "hour"));
+        assertThrows(InvalidStatsQueryException.class, () -> statsService.getStats(now.minusDays(2), now, "minute"));
+    }
 }
@@ -0,0 +1,131 @@
+package org.example.service;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para StreamingMutantDetector.
+ */
+@DisplayName("StreamingMutantDetector - Tests Unitarios")
+class StreamingMutantDetectorTest {
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private MutantDetector scalarDetector;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() {
+        scalarDetector = new MutantDetector();
+    }
+
+    // ==================== TESTS DE VEREDICTO ANTICIPADO ====================
+
+    @Test
+    @DisplayName("Informa mutante en cuanto aparece la segunda secuencia, antes de la última fila")
+    void testMutantFoundBeforeLastRow() {
+        // Arrange
+        StreamingMutantDetector detector = new StreamingMutantDetector(6);
+
+        // Act & Assert
+        assertTrue(detector.acceptRow("AAAATG"));
+        assertFalse(detector.isMutantFound());
+        assertTrue(detector.acceptRow("CCCCAT"));
+        assertTrue(detector.isMutantFound());
+        assertFalse(detector.isMutant());
+
+        for (String row : new String[]{"GTAGTC", "AGTCAC", "TCACTG", "ATGCGA"}) {
+            assertTrue(detector.acceptRow(row));
+        }
+        assertTrue(detector.isComplete());
+        assertTrue(detector.isMutant());
+    }
+
+    @Test
+    @DisplayName("Una fila inválida posterior al veredicto anticipado invalida el ADN")
+    void testInvalidRowAfterMutantFound() {
+        // Arrange
+        StreamingMutantDetector detector = new StreamingMutantDetector(4);
+        detector.acceptRow("AAAA");
+        detector.acceptRow("CCCC");
+
+        // Act
+        boolean accepted = detector.acceptRow("GTXG");
+
+        // Assert
+        assertFalse(accepted);
+        assertFalse(detector.isMutantFound());
+        assertFalse(detector.isMutant());
+    }
+
+    // ==================== TESTS DE VALIDACIÓN ====================
+
+    @Test
+    @DisplayName("Rechaza filas de largo distinto, nulas, de más o incompletas")
+    void testInvalidShapes() {
+        StreamingMutantDetector shortRow = new StreamingMutantDetector(4);
+        assertFalse(shortRow.acceptRow("AAA"));
+
+        StreamingMutantDetector nullRow = new StreamingMutantDetector(4);
+        assertFalse(nullRow.acceptRow(null));
+
+        StreamingMutantDetector extraRow = new StreamingMutantDetector(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(extraRow.acceptRow("ACGT"));
+        }
+        assertFalse(extraRow.acceptRow("ACGT"));
+        assertFalse(extraRow.isComplete());
+
+        StreamingMutantDetector incomplete = new StreamingMutantDetector(4);
+        incomplete.acceptRow("AAAA");
+        incomplete.acceptRow("CCCC");
+        incomplete.acceptRow("GGGG");
+        assertFalse(incomplete.isComplete());
+        assertFalse(incomplete.isMutant());
+
+        assertThrows(IllegalArgumentException.class, () -> new StreamingMutantDetector(0));
+    }
+
+    // ==================== TESTS DE EQUIVALENCIA ====================
+
+    @Test
+    @DisplayName("Da el mismo resultado que el escaneo escalar alimentado fila por fila")
+    void testRandomMatricesMatchScalar() {
+        Random random = new Random(11);
+        int[] sizes = {1, 3, 4, 5, 6, 7, 10, 33, 64};
+
+        for (int n : sizes) {
+            for (int i = 0; i < 200; i++) {
+                String[] dna = randomMatrix(random, n, random.nextInt(3) + 2);
+                StreamingMutantDetector detector = new StreamingMutantDetector(n);
+                for (String row : dna) {
+                    detector.acceptRow(row);
+                }
+                assertEquals(scalarDetector.isMutant(dna), detector.isMutant(),
+                        () -> "Diferencia para matriz " + String.join(",", dna));
+            }
+        }
+    }
+
+    /**
+     * Genera una matriz aleatoria con un alfabeto reducido para provocar secuencias.
+     */
+    private static String[] randomMatrix(Random random, int n, int alphabet) {
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = BASES[random.nextInt(alphabet)];
+            }
+            dna[row] = new String(chars);
+        }
+        return dna;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.service;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests de equivalencia entre VectorDetectionEngine y el escaneo escalar.
+ * Se ejecutan con --add-modules jdk.incubator.vector (ver build.gradle).
+ */
+@DisplayName("VectorDetectionEngine - Tests de Equivalencia")
+class VectorDetectionEngineTest {
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private VectorDetectionEngine engine;
+    private MutantDetector scalarDetector;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() {
+        engine = new VectorDetectionEngine();
+        scalarDetector = new MutantDetector();
+    }
+
+    // ==================== TESTS DE DIRECCIONES ====================
+
+    @Test
+    @DisplayName("Detecta mutante con secuencias horizontales y verticales")
+    void testHorizontalAndVerticalSequences() {
+        String[] dna = {
+            "AAAATG",
+            "TGCAGT",
+            "TGTTCC",
+            "TGCCTG",
+            "TGAGTC",
+            "AGTCAC"
+        };
+        assertTrue(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Detecta mutante con secuencias diagonales")
+    void testDiagonalSequences() {
+        String[] dna = {
+            "ATGCGA",
+            "CAGTGC",
+            "TTATGT",
+            "AGAAGG",
+            "CCCCTA",
+            "TCACTG"
+        };
+        assertTrue(engine.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Detecta humano con una sola secuencia")
+    void testHumanWithOneSequence() {
+        String[] dna = {
+            "ATGCGA",
+            "CAGTGC",
+            "TTATTT",
+            "AGACGG",
+            "GCGTCA",
+            "TCACTG"
+        };
+        assertFalse(engine.isMutant(dna));
+    }
+
+    // ==================== TESTS DE VALIDACIÓN ====================
+
+    @Test
+    @DisplayName("Rechaza ADN inválido igual que el escaneo escalar")
+    void testInvalidDna() {
+        assertFalse(engine.isMutant(null));
+        assertFalse(engine.isMutant(new String[]{}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", "AAAA", "AAAA"}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", null, "AAAA", "AAAA"}));
+        assertFalse(engine.isMutant(new String[]{"AAAA", "AAAA", "AAXA", "AAAA"}));
+    }
+
+    // ==================== TESTS DE EQUIVALENCIA ====================
+
+    @Test
+    @DisplayName("Da el mismo resultado que el escaneo escalar en matrices aleatorias")
+    void testRandomMatricesMatchScalar() {
+        Random random = new Random(7);
+        int[] sizes = {1, 3, 4, 5, 6, 8, 15, 16, 17, 31, 32, 33, 64, 65, 100};
+
+        for (int n : sizes) {
+            for (int i = 0; i < 200; i++) {
+                String[] dna = randomMatrix(random, n, random.nextInt(3) + 2);
+                assertEquals(scalarDetector.isMutant(dna), engine.isMutant(dna),
+                        () -> "Diferencia para matriz " + String.join(",", dna));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("MutantDetector con motor vector da el mismo resultado que el escalar")
+    void testConfiguredDetectorMatchesScalar() {
+        MutantDetector vectorDetector = new MutantDetector("vector");
+        Random random = new Random(11);
+
+        for (int i = 0; i < 500; i++) {
+            String[] dna = randomMatrix(random, random.nextInt(40) + 4, 4);
+            assertEquals(scalarDetector.isMutant(dna), vectorDetector.isMutant(dna));
+        }
+    }
+
+    /**
+     * Genera una matriz aleatoria con un alfabeto reducido para provocar secuencias.
+     */
+    private static String[] randomMatrix(Random random, int n, int alphabet) {
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = BASES[random.nextInt(alphabet)];
+            }
+            dna[row] = new String(chars);
+        }
+        return dna;
+    }
+}
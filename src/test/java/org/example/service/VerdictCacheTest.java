@@ -0,0 +1,71 @@
+package org.example.service;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para VerdictCache.
+ */
+@DisplayName("VerdictCache - Tests Unitarios")
+class VerdictCacheTest {
+
+    private static final DnaHash HASH_1 = hash(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unused") // JUnit lo usa automáticamente antes de cada test
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Devuelve el veredicto guardado y registra hits y misses")
+    void testHitAndMissCounters() {
+        VerdictCache cache = new VerdictCache(meterRegistry, 100);
+
+        assertEquals(Optional.empty(), cache.get(HASH_1));
+        cache.put(HASH_1, true);
+        assertEquals(Optional.of(true), cache.get(HASH_1));
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Desaloja entradas al superar la capacidad")
+    void testEvictionBySize() {
+        VerdictCache cache = new VerdictCache(meterRegistry, 100);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(hash(i), i % 2 == 0);
+        }
+        cache.cleanUp();
+
+        assertTrue(cache.size() <= 100);
+        assertTrue(meterRegistry.get("cache.evictions").functionCounter().count() >= 900);
+    }
+
+    @Test
+    @DisplayName("No guarda nada con capacidad 0")
+    void testDisabledCache() {
+        VerdictCache cache = new VerdictCache(meterRegistry, 0);
+
+        cache.put(HASH_1, true);
+
+        assertEquals(Optional.empty(), cache.get(HASH_1));
+        assertEquals(0, cache.size());
+    }
+
+    private static DnaHash hash(int value) {
+        return DnaHash.of(ByteBuffer.allocate(32).putInt(value).array());
+    }
+}